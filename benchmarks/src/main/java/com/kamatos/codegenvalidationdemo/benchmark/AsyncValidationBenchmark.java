@@ -0,0 +1,116 @@
+package com.kamatos.codegenvalidationdemo.benchmark;
+
+import com.kamatos.codegenvalidationdemo.api.model.CreateItemRequest;
+import com.kamatos.codegenvalidationdemo.validation.AsyncValidator;
+import com.kamatos.codegenvalidationdemo.validation.CompositeValidator;
+import com.kamatos.codegenvalidationdemo.validation.ParallelValidationExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.lang.NonNull;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a chain of slow validators, e.g. blocking lookups, run sequentially compared to run as
+ * {@link AsyncValidator}s on virtual threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AsyncValidationBenchmark {
+
+    @Param({"4"})
+    private int validators;
+
+    @Param({"2"})
+    private long lookupMillis;
+
+    private ParallelValidationExecutor executor;
+    private CompositeValidator sequential;
+    private CompositeValidator parallel;
+    private CreateItemRequest target;
+
+    @Setup
+    public void setUp() {
+        executor = BenchmarkFixtures.parallelValidationExecutor();
+
+        List<Validator> blocking = new ArrayList<>();
+        List<Validator> async = new ArrayList<>();
+        for (int i = 0; i < validators; i++) {
+            blocking.add(new LookupValidator(lookupMillis));
+            async.add(new AsyncLookupValidator(lookupMillis));
+        }
+
+        sequential = CompositeValidator.of(CreateItemRequest.class, blocking, executor);
+        parallel = CompositeValidator.of(CreateItemRequest.class, async, executor);
+        target = BenchmarkFixtures.validCreateItemRequest();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.destroy();
+    }
+
+    @Benchmark
+    public Errors sequential() {
+        return validate(sequential);
+    }
+
+    @Benchmark
+    public Errors parallel() {
+        return validate(parallel);
+    }
+
+    private Errors validate(Validator validator) {
+        Errors errors = new BeanPropertyBindingResult(target, "createItemRequest");
+        validator.validate(target, errors);
+        return errors;
+    }
+
+    private static class LookupValidator implements Validator {
+        private final long lookupMillis;
+
+        LookupValidator(long lookupMillis) {
+            this.lookupMillis = lookupMillis;
+        }
+
+        @Override
+        public boolean supports(@NonNull Class<?> clazz) {
+            return true;
+        }
+
+        @Override
+        public void validate(@NonNull Object target, @NonNull Errors errors) {
+            try {
+                Thread.sleep(lookupMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static class AsyncLookupValidator extends LookupValidator implements AsyncValidator {
+
+        AsyncLookupValidator(long lookupMillis) {
+            super(lookupMillis);
+        }
+    }
+}
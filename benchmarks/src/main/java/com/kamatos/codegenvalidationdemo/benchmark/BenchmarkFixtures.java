@@ -0,0 +1,207 @@
+package com.kamatos.codegenvalidationdemo.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kamatos.codegenvalidationdemo.api.model.CreateItemRequest;
+import com.kamatos.codegenvalidationdemo.api.model.CreateItemRequestSchemaValidator;
+import com.kamatos.codegenvalidationdemo.api.model.UpdateItemRequestSchemaValidator;
+import com.kamatos.codegenvalidationdemo.api.model.ValidatedUpdateItemRequestSchemaValidator;
+import com.kamatos.codegenvalidationdemo.config.WireFormat;
+import com.kamatos.codegenvalidationdemo.controller.ItemsController;
+import com.kamatos.codegenvalidationdemo.exception.PreEncodedErrorBodies;
+import com.kamatos.codegenvalidationdemo.i18n.CachingMessageInterpolator;
+import com.kamatos.codegenvalidationdemo.i18n.ErrorMessageCatalog;
+import com.kamatos.codegenvalidationdemo.observability.ValidationMetrics;
+import com.kamatos.codegenvalidationdemo.validation.AsyncTimeoutBehavior;
+import com.kamatos.codegenvalidationdemo.validation.CreateItemRequestValidator;
+import com.kamatos.codegenvalidationdemo.validation.ItemsControllerValidator;
+import com.kamatos.codegenvalidationdemo.validation.ItemsValidatorsRegistrar;
+import com.kamatos.codegenvalidationdemo.validation.ParallelValidationExecutor;
+import com.kamatos.codegenvalidationdemo.validation.ValidatedUpdateItemRequestValidator;
+import com.kamatos.codegenvalidationdemo.validation.blocklist.BlockedDomainsProvider;
+import com.kamatos.codegenvalidationdemo.validation.cache.ValidationOutcomeCache;
+import com.kamatos.codegenvalidationdemo.validation.constraint.EmailRulesEvaluator;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Validation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
+import org.hibernate.validator.BaseHibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Builds the application components outside of a Spring context, wired the same way the application wires them.
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    public static List<ItemsControllerValidator> itemsControllerValidators() {
+        return List.of(new CreateItemRequestSchemaValidator(), new UpdateItemRequestSchemaValidator(),
+                new ValidatedUpdateItemRequestSchemaValidator(), new CreateItemRequestValidator(EmailRulesEvaluator.defaults()),
+                new ValidatedUpdateItemRequestValidator());
+    }
+
+    /**
+     * @param cached whether outcomes go through an enabled {@link ValidationOutcomeCache}
+     */
+    public static EmailRulesEvaluator emailRulesEvaluator(boolean cached) {
+        ValidationOutcomeCache cache = cached
+                ? new ValidationOutcomeCache(true, 10_000, Duration.ofMinutes(10))
+                : ValidationOutcomeCache.disabled();
+        return new EmailRulesEvaluator(new BlockedDomainsProvider(""), cache);
+    }
+
+    public static ItemsValidatorsRegistrar itemsValidatorsRegistrar() {
+        return itemsValidatorsRegistrar(ValidationMetrics.disabled());
+    }
+
+    public static ItemsValidatorsRegistrar itemsValidatorsRegistrar(ValidationMetrics validationMetrics) {
+        return new ItemsValidatorsRegistrar(itemsControllerValidators(), parallelValidationExecutor(), validationMetrics);
+    }
+
+    public static ValidationMetrics validationMetrics(boolean enabled) {
+        return new ValidationMetrics(new SimpleMeterRegistry(), enabled);
+    }
+
+    public static ParallelValidationExecutor parallelValidationExecutor() {
+        return new ParallelValidationExecutor(Duration.ofMillis(500), AsyncTimeoutBehavior.FAIL);
+    }
+
+    /**
+     * Controller instance for method validation only, its collaborators aren't needed for that.
+     */
+    public static ItemsController itemsController() {
+        return new ItemsController(itemsValidatorsRegistrar(), null, null, objectMapper());
+    }
+
+    public static Validator beanValidator() {
+        return beanValidator(false);
+    }
+
+    /**
+     * @param cachedMessages whether messages are resolved by the {@link CachingMessageInterpolator}
+     */
+    public static Validator beanValidator(boolean cachedMessages) {
+        HibernateValidatorConfiguration configuration = Validation.byProvider(HibernateValidator.class)
+                .configure()
+                .addProperty(BaseHibernateValidatorConfiguration.ALLOW_PARAMETER_CONSTRAINT_OVERRIDE, "true");
+        if (cachedMessages) {
+            configuration.messageInterpolator(new CachingMessageInterpolator(
+                    configuration.getDefaultMessageInterpolator(), errorMessageCatalog()));
+        }
+        return configuration.buildValidatorFactory().getValidator();
+    }
+
+    public static ErrorMessageCatalog errorMessageCatalog() {
+        return new ErrorMessageCatalog(List.of(Locale.ENGLISH, Locale.GERMAN));
+    }
+
+    public static ObjectMapper objectMapper() {
+        return objectMapper(WireFormat.JSON);
+    }
+
+    public static ObjectMapper objectMapper(WireFormat format) {
+        return switch (format) {
+            case JSON -> Jackson2ObjectMapperBuilder.json().build();
+            case CBOR -> Jackson2ObjectMapperBuilder.cbor().build();
+            case SMILE -> Jackson2ObjectMapperBuilder.smile().build();
+        };
+    }
+
+    public static PreEncodedErrorBodies preEncodedErrorBodies(boolean enabled) {
+        return new PreEncodedErrorBodies(objectMapper(),
+                new MappingJackson2CborHttpMessageConverter(objectMapper(WireFormat.CBOR)),
+                new MappingJackson2SmileHttpMessageConverter(objectMapper(WireFormat.SMILE)), enabled);
+    }
+
+    public static CreateItemRequest validCreateItemRequest() {
+        return new CreateItemRequest().name("John").email("john.doe@example.com");
+    }
+
+    public static CreateItemRequest invalidCreateItemRequest() {
+        return new CreateItemRequest().name("test").email("invalid-format");
+    }
+
+    /**
+     * Constraint validator context which only counts the reported violations, so the cost of Hibernate Validator's
+     * own context doesn't blur the cost of the validator itself.
+     */
+    public static final class CountingConstraintValidatorContext
+            implements ConstraintValidatorContext, ConstraintValidatorContext.ConstraintViolationBuilder {
+        private int violations;
+
+        public int violations() {
+            return violations;
+        }
+
+        public void reset() {
+            violations = 0;
+        }
+
+        @Override
+        public void disableDefaultConstraintViolation() {
+        }
+
+        @Override
+        public String getDefaultConstraintMessageTemplate() {
+            return "";
+        }
+
+        @Override
+        public ClockProvider getClockProvider() {
+            return null;
+        }
+
+        @Override
+        public ConstraintViolationBuilder buildConstraintViolationWithTemplate(String messageTemplate) {
+            return this;
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> type) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public NodeBuilderDefinedContext addNode(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public NodeBuilderCustomizableContext addPropertyNode(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public LeafNodeBuilderCustomizableContext addBeanNode() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ContainerElementNodeBuilderCustomizableContext addContainerElementNode(String name, Class<?> containerType,
+                                                                                      Integer typeArgumentIndex) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public NodeBuilderDefinedContext addParameterNode(int index) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ConstraintValidatorContext addConstraintViolation() {
+            violations++;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.kamatos.codegenvalidationdemo.benchmark;
+
+import com.kamatos.codegenvalidationdemo.validation.blocklist.BlockedDomains;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups in a large blocked domains list loaded from a file: an exact hit, a wildcard hit on a deep subdomain and a
+ * miss. Run with the GC profiler to check lookups don't allocate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlockedDomainsBenchmark {
+
+    @Param({"1000000"})
+    private int entries;
+
+    @Param({"john.doe@domain123456.example", "john.doe@a.b.c.wild42.example", "john.doe@example.com"})
+    private String email;
+
+    private BlockedDomains domains;
+    private int domainStart;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<String> lines = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            lines.add(i % 10 == 0 ? "*.wild" + i + ".example" : "domain" + i + ".example");
+        }
+        Path file = Files.createTempFile("blocked-domains", ".txt");
+        try {
+            Files.write(file, lines);
+            domains = BlockedDomains.load(file);
+        } finally {
+            Files.delete(file);
+        }
+        domainStart = email.indexOf('@') + 1;
+    }
+
+    @Benchmark
+    public boolean isBlocked() {
+        return domains.isBlocked(email, domainStart, email.length());
+    }
+}
@@ -0,0 +1,54 @@
+package com.kamatos.codegenvalidationdemo.benchmark;
+
+import com.kamatos.codegenvalidationdemo.api.model.CreateItemRequest;
+import com.kamatos.codegenvalidationdemo.validation.CreateItemRequestValidator;
+import com.kamatos.codegenvalidationdemo.validation.constraint.EmailRulesEvaluator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreateItemRequestValidatorBenchmark {
+    private CreateItemRequestValidator validator;
+    private CreateItemRequest validRequest;
+    private CreateItemRequest invalidRequest;
+
+    @Setup
+    public void setUp() {
+        validator = new CreateItemRequestValidator(EmailRulesEvaluator.defaults());
+        validRequest = BenchmarkFixtures.validCreateItemRequest();
+        invalidRequest = BenchmarkFixtures.invalidCreateItemRequest();
+    }
+
+    @Benchmark
+    public Errors validPayload() {
+        return validate(validRequest);
+    }
+
+    @Benchmark
+    public Errors invalidPayload() {
+        return validate(invalidRequest);
+    }
+
+    private Errors validate(CreateItemRequest request) {
+        Errors errors = new BeanPropertyBindingResult(request, "createItemRequest");
+        validator.validate(request, errors);
+        return errors;
+    }
+}
@@ -0,0 +1,48 @@
+package com.kamatos.codegenvalidationdemo.benchmark;
+
+import com.kamatos.codegenvalidationdemo.observability.ValidationMetrics;
+import com.kamatos.codegenvalidationdemo.validation.constraint.EmailConstraintValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailConstraintValidatorBenchmark {
+
+    @Param({"john.doe@example.com", "dummy@test.com", "invalid-format"})
+    private String email;
+
+    @Param({"false", "true"})
+    private boolean cached;
+
+    private EmailConstraintValidator validator;
+    private BenchmarkFixtures.CountingConstraintValidatorContext context;
+
+    @Setup
+    public void setUp() {
+        validator = new EmailConstraintValidator(BenchmarkFixtures.emailRulesEvaluator(cached),
+                ValidationMetrics.disabled());
+        context = new BenchmarkFixtures.CountingConstraintValidatorContext();
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        context.reset();
+        return validator.isValid(email, context);
+    }
+}
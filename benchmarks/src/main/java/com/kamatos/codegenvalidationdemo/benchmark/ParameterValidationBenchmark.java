@@ -0,0 +1,51 @@
+package com.kamatos.codegenvalidationdemo.benchmark;
+
+import com.kamatos.codegenvalidationdemo.controller.ItemsController;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.executable.ExecutableValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate Validator parameter validation of `getItems`, relying on the overridden `@ValidEmail` constraint.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParameterValidationBenchmark {
+
+    @Param({"john.doe@example.com", "dummy@test.com"})
+    private String email;
+
+    private ExecutableValidator executableValidator;
+    private ItemsController controller;
+    private Method getItems;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        executableValidator = BenchmarkFixtures.beanValidator().forExecutables();
+        controller = BenchmarkFixtures.itemsController();
+        getItems = ItemsController.class.getMethod("getItems", String.class, String.class, Integer.class);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ItemsController>> getItems() {
+        return executableValidator.validateParameters(controller, getItems, new Object[]{email, null, 100});
+    }
+}
@@ -0,0 +1,96 @@
+package com.kamatos.codegenvalidationdemo.benchmark;
+
+import com.kamatos.codegenvalidationdemo.api.model.CreateItemRequest;
+import com.kamatos.codegenvalidationdemo.validation.CreateItemRequestValidator;
+import com.kamatos.codegenvalidationdemo.validation.constraint.EmailRulesEvaluator;
+import com.kamatos.codegenvalidationdemo.validation.rules.RulesValidator;
+import com.kamatos.codegenvalidationdemo.validation.rules.ValidationRulesProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The rules of {@link CreateItemRequestValidator} evaluated by the hand-written validator and by the rule engine,
+ * compiled from the equivalent rules file.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RulesValidatorBenchmark {
+    private static final String RULES = """
+            {
+              "CreateItemRequest": [
+                {"field": "name", "type": "required", "code": "required", "message": "Name is required"},
+                {"field": "name", "type": "notEquals", "value": "test", "ignoreCase": true,
+                 "code": "nonTest", "message": "Name cannot be Test"},
+                {"field": "email", "type": "emailFormat",
+                 "code": "format.name_lastname_required", "message": "Email must be in format 'name.lastname@domain'"},
+                {"field": "email", "type": "domainNotIn", "values": ["test.com"],
+                 "code": "domain.blocked", "message": "Email domain is blocked"}
+              ]
+            }
+            """;
+
+    @Param({"handWritten", "rules"})
+    private String validatorType;
+
+    private Validator validator;
+    private CreateItemRequest validRequest;
+    private CreateItemRequest invalidRequest;
+
+    @Setup
+    public void setUp() throws IOException {
+        validator = switch (validatorType) {
+            case "handWritten" -> new CreateItemRequestValidator(EmailRulesEvaluator.defaults());
+            case "rules" -> rulesValidator();
+            default -> throw new IllegalArgumentException(validatorType);
+        };
+        validRequest = BenchmarkFixtures.validCreateItemRequest();
+        invalidRequest = BenchmarkFixtures.invalidCreateItemRequest();
+    }
+
+    @Benchmark
+    public Errors validPayload() {
+        return validate(validRequest);
+    }
+
+    @Benchmark
+    public Errors invalidPayload() {
+        return validate(invalidRequest);
+    }
+
+    private Errors validate(CreateItemRequest request) {
+        Errors errors = new BeanPropertyBindingResult(request, "createItemRequest");
+        validator.validate(request, errors);
+        return errors;
+    }
+
+    private static RulesValidator rulesValidator() throws IOException {
+        Path file = Files.createTempFile("validation-rules", ".json");
+        try {
+            Files.writeString(file, RULES);
+            return new RulesValidator(new ValidationRulesProvider(file.toString()));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
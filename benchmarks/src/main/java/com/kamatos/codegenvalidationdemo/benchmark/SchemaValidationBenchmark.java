@@ -0,0 +1,63 @@
+package com.kamatos.codegenvalidationdemo.benchmark;
+
+import com.kamatos.codegenvalidationdemo.api.model.CreateItemRequest;
+import com.kamatos.codegenvalidationdemo.api.model.CreateItemRequestSchemaValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spec constraints of `CreateItemRequest` checked by the generated validator compared to Hibernate Validator.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaValidationBenchmark {
+
+    @Param({"valid", "invalid"})
+    private String payload;
+
+    private Validator schemaValidator;
+    private Validator beanValidator;
+    private CreateItemRequest request;
+
+    @Setup
+    public void setUp() {
+        schemaValidator = new CreateItemRequestSchemaValidator();
+        beanValidator = new SpringValidatorAdapter(BenchmarkFixtures.beanValidator());
+        request = "valid".equals(payload) ? BenchmarkFixtures.validCreateItemRequest() : new CreateItemRequest().name("");
+    }
+
+    @Benchmark
+    public Errors generatedSchemaValidator() {
+        return validate(schemaValidator);
+    }
+
+    @Benchmark
+    public Errors beanValidation() {
+        return validate(beanValidator);
+    }
+
+    private Errors validate(Validator validator) {
+        Errors errors = new BeanPropertyBindingResult(request, "createItemRequest");
+        validator.validate(request, errors);
+        return errors;
+    }
+}
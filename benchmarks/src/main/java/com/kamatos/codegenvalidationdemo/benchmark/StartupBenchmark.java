@@ -0,0 +1,133 @@
+package com.kamatos.codegenvalidationdemo.benchmark;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Startup of the application in its default mode, the executable jar, and in the optimized mode of the
+ * `fast-startup` profile, the extracted jar with Spring AOT and the class-data-sharing archive. Not a JMH benchmark:
+ * every run starts a fresh JVM and reports the time from process start until the readiness probe reports the
+ * application ready, after the warm-up (time-to-ready) and until a validated `POST /api/items` got its response (time-to-first-response).
+ * <p>
+ * Usage: `StartupBenchmark [target directory] [runs]`, with the target directory of a `-Pfast-startup` build.
+ */
+public class StartupBenchmark {
+    private static final String JAR = "codegen-mvc-validation-demo-1.0-SNAPSHOT-exec.jar";
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+    private static final String FIRST_REQUEST = "{\"name\": \"John\", \"email\": \"john.doe@example.com\"}";
+
+    public static void main(String[] args) throws Exception {
+        Path target = Path.of(args.length > 0 ? args[0] : "target").toAbsolutePath();
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        Path optimizedDir = target.resolve("fast-startup");
+        if (!Files.exists(target.resolve(JAR)) || !Files.exists(optimizedDir.resolve("app.jsa"))) {
+            throw new IllegalStateException("Build with `mvn package -Pfast-startup` first, nothing found in " + target);
+        }
+
+        List<Mode> modes = List.of(
+                new Mode("default", target, List.of("-jar", JAR)),
+                new Mode("optimized", optimizedDir,
+                        List.of("-XX:SharedArchiveFile=app.jsa", "-Dspring.aot.enabled=true", "-jar", JAR)));
+
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build()) {
+            for (Mode mode : modes) {
+                long[] ready = new long[runs];
+                long[] firstResponse = new long[runs];
+                for (int run = 0; run < runs; run++) {
+                    long[] result = run(client, mode);
+                    ready[run] = result[0];
+                    firstResponse[run] = result[1];
+                }
+                System.out.printf("%-10s time-to-ready: median %5d ms, min %5d ms   "
+                                + "time-to-first-response: median %5d ms, min %5d ms%n",
+                        mode.name(), median(ready), Arrays.stream(ready).min().orElseThrow(),
+                        median(firstResponse), Arrays.stream(firstResponse).min().orElseThrow());
+            }
+        }
+    }
+
+    /*
+    Returns the milliseconds from process start until ready and until the first response.
+     */
+    private static long[] run(HttpClient client, Mode mode) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Dserver.port=" + port);
+        command.addAll(mode.arguments());
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(mode.directory().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            URI base = URI.create("http://localhost:" + port);
+            awaitReady(client, base.resolve("/actuator/health/readiness"), process);
+            long ready = System.nanoTime();
+
+            HttpResponse<Void> response = client.send(HttpRequest.newBuilder(base.resolve("/api/items"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(FIRST_REQUEST))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+            long firstResponse = System.nanoTime();
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("First request failed with " + response.statusCode());
+            }
+
+            return new long[]{(ready - start) / 1_000_000, (firstResponse - start) / 1_000_000};
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    /*
+    The readiness probe answers 503 until the application runners, including the warm-up, have completed.
+     */
+    private static void awaitReady(HttpClient client, URI readiness, Process process) throws Exception {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        HttpRequest request = HttpRequest.newBuilder(readiness).build();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue());
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException("Application not ready within " + TIMEOUT);
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Mode(String name, Path directory, List<String> arguments) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.kamatos.codegenvalidationdemo.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kamatos.codegenvalidationdemo.api.model.CreateItemRequest;
+import com.kamatos.codegenvalidationdemo.controller.ItemsController;
+import com.kamatos.codegenvalidationdemo.exception.CustomValidationException;
+import com.kamatos.codegenvalidationdemo.exception.ValidationErrorHandler;
+import com.kamatos.codegenvalidationdemo.i18n.CachingMessageInterpolator;
+import com.kamatos.codegenvalidationdemo.observability.ValidationMetrics;
+import com.kamatos.codegenvalidationdemo.validation.CreateItemRequestValidator;
+import com.kamatos.codegenvalidationdemo.validation.NameValidator;
+import com.kamatos.codegenvalidationdemo.validation.constraint.EmailRulesEvaluator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.beanvalidation.MethodValidationAdapter;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error path cost, from the thrown exception to the serialized JSON body, for the three handlers of
+ * {@link ValidationErrorHandler}, with and without the pre-encoded error bodies, and with constraint messages
+ * interpolated by the default interpolator or resolved by the {@link CachingMessageInterpolator}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationErrorHandlerBenchmark {
+
+    @Param({"true", "false"})
+    private boolean preEncoded;
+
+    @Param({"true", "false"})
+    private boolean cachedMessages;
+
+    private ValidationErrorHandler handler;
+    private ObjectMapper objectMapper;
+
+    private MethodParameter createItemParameter;
+    private SpringValidatorAdapter beanValidator;
+    private CreateItemRequestValidator createItemRequestValidator;
+    private CreateItemRequest invalidRequest;
+
+    private MethodValidationAdapter methodValidationAdapter;
+    private ItemsController controller;
+    private Method getItems;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        objectMapper = BenchmarkFixtures.objectMapper();
+        handler = new ValidationErrorHandler(BenchmarkFixtures.preEncodedErrorBodies(preEncoded),
+                ValidationMetrics.disabled(), BenchmarkFixtures.errorMessageCatalog());
+
+        jakarta.validation.Validator validator = BenchmarkFixtures.beanValidator(cachedMessages);
+        beanValidator = new SpringValidatorAdapter(validator);
+        createItemRequestValidator = new CreateItemRequestValidator(EmailRulesEvaluator.defaults());
+        createItemParameter = new MethodParameter(ItemsController.class.getMethod("createItem", CreateItemRequest.class), 0);
+        invalidRequest = new CreateItemRequest().name("test");
+
+        methodValidationAdapter = new MethodValidationAdapter(validator);
+        controller = BenchmarkFixtures.itemsController();
+        getItems = ItemsController.class.getMethod("getItems", String.class, String.class, Integer.class);
+    }
+
+    @Benchmark
+    public byte[] customValidationException() throws Exception {
+        CustomValidationException ex = new CustomValidationException(NameValidator.validateNameIfTest("test"));
+        return toBytes(handler.handleCustomValidationException(ex));
+    }
+
+    @Benchmark
+    public byte[] methodArgumentNotValidException() throws Exception {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(invalidRequest, "createItemRequest");
+        beanValidator.validate(invalidRequest, bindingResult);
+        createItemRequestValidator.validate(invalidRequest, bindingResult);
+        MethodArgumentNotValidException ex = new MethodArgumentNotValidException(createItemParameter, bindingResult);
+        return toBytes(handler.handleMethodArgumentException(ex));
+    }
+
+    @Benchmark
+    public byte[] handlerMethodValidationException() throws Exception {
+        HandlerMethodValidationException ex = new HandlerMethodValidationException(methodValidationAdapter
+                .validateArguments(controller, getItems, null, new Object[]{"dummy@test.com", null, 100}, new Class<?>[0]));
+        return toBytes(handler.handleMethodValidationException(ex));
+    }
+
+    private byte[] toBytes(ResponseEntity<?> response) throws Exception {
+        return response.getBody() instanceof byte[] bytes ? bytes : objectMapper.writeValueAsBytes(response.getBody());
+    }
+}
@@ -0,0 +1,59 @@
+package com.kamatos.codegenvalidationdemo.benchmark;
+
+import com.kamatos.codegenvalidationdemo.api.model.CreateItemRequest;
+import com.kamatos.codegenvalidationdemo.observability.ValidationMetrics;
+import com.kamatos.codegenvalidationdemo.validation.ItemsValidatorsRegistrar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.bind.WebDataBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the @InitBinder hook, executed for every bound argument of every request, and of the validation it sets
+ * up, with and without {@link ValidationMetrics}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidatorsRegistrarBenchmark {
+
+    @Param({"false", "true"})
+    private boolean metrics;
+
+    private ItemsValidatorsRegistrar registrar;
+    private CreateItemRequest target;
+
+    @Setup
+    public void setUp() {
+        registrar = BenchmarkFixtures.itemsValidatorsRegistrar(BenchmarkFixtures.validationMetrics(metrics));
+        target = BenchmarkFixtures.validCreateItemRequest();
+    }
+
+    @Benchmark
+    public WebDataBinder initItemsControllerBinder() {
+        WebDataBinder binder = new WebDataBinder(target, "createItemRequest");
+        registrar.initItemsControllerBinder(binder);
+        return binder;
+    }
+
+    @Benchmark
+    public WebDataBinder validate() {
+        WebDataBinder binder = new WebDataBinder(target, "createItemRequest");
+        registrar.initItemsControllerBinder(binder);
+        binder.validate();
+        return binder;
+    }
+}
@@ -0,0 +1,115 @@
+package com.kamatos.codegenvalidationdemo.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.kamatos.codegenvalidationdemo.api.model.CreateItemRequest;
+import com.kamatos.codegenvalidationdemo.api.model.ItemResponse;
+import com.kamatos.codegenvalidationdemo.api.model.ValidationError;
+import com.kamatos.codegenvalidationdemo.api.model.ValidationErrorResponse;
+import com.kamatos.codegenvalidationdemo.config.WireFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Parse and serialize cost of the request and response bodies in each {@link WireFormat}: a `CreateItemRequest`, a
+ * page of 100 `ItemResponse`s as returned by `GET /api/items`, and a `ValidationErrorResponse` with several errors.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    private WireFormat format;
+
+    private ObjectReader createItemRequestReader;
+    private ObjectReader itemsPageReader;
+    private ObjectReader errorResponseReader;
+    private ObjectWriter createItemRequestWriter;
+    private ObjectWriter itemsPageWriter;
+    private ObjectWriter errorResponseWriter;
+
+    private CreateItemRequest createItemRequest;
+    private List<ItemResponse> itemsPage;
+    private ValidationErrorResponse errorResponse;
+    private byte[] createItemRequestBytes;
+    private byte[] itemsPageBytes;
+    private byte[] errorResponseBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = BenchmarkFixtures.objectMapper(format);
+        TypeReference<List<ItemResponse>> itemsPageType = new TypeReference<>() {
+        };
+        createItemRequestReader = objectMapper.readerFor(CreateItemRequest.class);
+        itemsPageReader = objectMapper.readerFor(itemsPageType);
+        errorResponseReader = objectMapper.readerFor(ValidationErrorResponse.class);
+        createItemRequestWriter = objectMapper.writerFor(CreateItemRequest.class);
+        itemsPageWriter = objectMapper.writerFor(itemsPageType);
+        errorResponseWriter = objectMapper.writerFor(ValidationErrorResponse.class);
+
+        createItemRequest = BenchmarkFixtures.validCreateItemRequest();
+        itemsPage = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(i -> new ItemResponse().id(UUID.randomUUID()).name("Item " + i).email("item." + i + "@example.com"))
+                .toList();
+        errorResponse = new ValidationErrorResponse().errors(List.of(
+                new ValidationError().code("NotNull.email").message("must not be null"),
+                new ValidationError().code("nonTest.name").message("Name cannot be Test"),
+                new ValidationError().code("email.domain.blocked").message("Email domain is blocked")));
+
+        createItemRequestBytes = createItemRequestWriter.writeValueAsBytes(createItemRequest);
+        itemsPageBytes = itemsPageWriter.writeValueAsBytes(itemsPage);
+        errorResponseBytes = errorResponseWriter.writeValueAsBytes(errorResponse);
+    }
+
+    @Benchmark
+    public Object parseCreateItemRequest() throws IOException {
+        return createItemRequestReader.readValue(createItemRequestBytes);
+    }
+
+    @Benchmark
+    public byte[] serializeCreateItemRequest() throws IOException {
+        return createItemRequestWriter.writeValueAsBytes(createItemRequest);
+    }
+
+    @Benchmark
+    public Object parseItemsPage() throws IOException {
+        return itemsPageReader.readValue(itemsPageBytes);
+    }
+
+    @Benchmark
+    public byte[] serializeItemsPage() throws IOException {
+        return itemsPageWriter.writeValueAsBytes(itemsPage);
+    }
+
+    @Benchmark
+    public Object parseErrorResponse() throws IOException {
+        return errorResponseReader.readValue(errorResponseBytes);
+    }
+
+    @Benchmark
+    public byte[] serializeErrorResponse() throws IOException {
+        return errorResponseWriter.writeValueAsBytes(errorResponse);
+    }
+}
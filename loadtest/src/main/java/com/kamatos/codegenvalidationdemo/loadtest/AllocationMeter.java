@@ -0,0 +1,30 @@
+package com.kamatos.codegenvalidationdemo.loadtest;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Heap allocated by the application, as opposed to the load generator sharing its JVM. Requests are handled on
+ * virtual threads, whose allocations are only accounted to their carrier threads, so the application's share is the
+ * allocation of all threads, including terminated ones, minus that of the client threads. The client threads have
+ * to outlive the measurement.
+ */
+final class AllocationMeter {
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final long[] clientThreadIds;
+
+    AllocationMeter(Set<Thread> clientThreads) {
+        this.clientThreadIds = clientThreads.stream().mapToLong(Thread::threadId).toArray();
+    }
+
+    long applicationBytes() {
+        long clientBytes = Arrays.stream(THREADS.getThreadAllocatedBytes(clientThreadIds))
+                .filter(bytes -> bytes > 0)
+                .sum();
+        return THREADS.getTotalThreadAllocatedBytes() - clientBytes;
+    }
+}
@@ -0,0 +1,95 @@
+package com.kamatos.codegenvalidationdemo.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Stored results of an earlier run, per operation id, which later runs must not regress past. The allocated bytes per
+ * request don't depend on the machine and are committed. Throughput and p99 latency do, so they are stored in a
+ * separate timing baseline recorded on the machine that runs the comparison. Only the values present in a baseline
+ * are compared.
+ */
+final class Baseline {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Map<String, Entry> entries;
+
+    private Baseline(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    static Baseline load(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return new Baseline(Map.of());
+        }
+        return new Baseline(OBJECT_MAPPER.readValue(file.toFile(), new TypeReference<Map<String, Entry>>() {
+        }));
+    }
+
+    /**
+     * Stores the allocated bytes per request of the results.
+     */
+    static void storeAllocation(Path file, List<Result> results) throws IOException {
+        Map<String, Entry> entries = new TreeMap<>();
+        for (Result result : results) {
+            entries.put(result.operationId(), new Entry(null, null, result.bytesPerRequest()));
+        }
+        OBJECT_MAPPER.writeValue(file.toFile(), entries);
+    }
+
+    /**
+     * Stores the throughput and p99 latency of the results.
+     */
+    static void storeTiming(Path file, List<Result> results) throws IOException {
+        Map<String, Entry> entries = new TreeMap<>();
+        for (Result result : results) {
+            entries.put(result.operationId(), new Entry(Math.round(result.throughput()), result.p99Micros(), null));
+        }
+        OBJECT_MAPPER.writeValue(file.toFile(), entries);
+    }
+
+    boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Describes every regression of the results beyond the tolerances, operations without a baseline are skipped.
+     */
+    List<String> regressions(List<Result> results, double tolerance, double allocationTolerance) {
+        List<String> regressions = new ArrayList<>();
+        for (Result result : results) {
+            Entry entry = entries.get(result.operationId());
+            if (entry == null) {
+                continue;
+            }
+            if (entry.throughput() != null && result.throughput() < entry.throughput() * (1 - tolerance)) {
+                regressions.add(String.format("%s: throughput %.0f req/s, baseline %d req/s",
+                        result.operationId(), result.throughput(), entry.throughput()));
+            }
+            if (entry.p99Micros() != null && result.p99Micros() > entry.p99Micros() * (1 + tolerance)) {
+                regressions.add(String.format("%s: p99 %d us, baseline %d us",
+                        result.operationId(), result.p99Micros(), entry.p99Micros()));
+            }
+            if (entry.bytesPerRequest() != null
+                    && result.bytesPerRequest() > entry.bytesPerRequest() * (1 + allocationTolerance)) {
+                regressions.add(String.format("%s: %d B/request allocated, baseline %d B/request",
+                        result.operationId(), result.bytesPerRequest(), entry.bytesPerRequest()));
+            }
+        }
+        return regressions;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Entry(Long throughput, Long p99Micros, Long bytesPerRequest) {
+    }
+}
@@ -0,0 +1,152 @@
+package com.kamatos.codegenvalidationdemo.loadtest;
+
+import com.kamatos.codegenvalidationdemo.loadtest.Scenario.Call;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives a {@link Scenario} with a fixed number of clients, each sending its next request as soon as the previous
+ * response was read completely. Latencies are recorded from sending a request until its whole body was received, as
+ * this is a closed loop they don't include time a request would have waited for a free client.
+ */
+final class LoadGenerator implements AutoCloseable {
+    private static final long HIGHEST_LATENCY = TimeUnit.MINUTES.toNanos(1);
+
+    private final LoadTestOptions options;
+    private final Set<Thread> clientThreads = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor clients;
+    private final ThreadPoolExecutor httpClientExecutor;
+    private final HttpClient httpClient;
+    private final AllocationMeter allocationMeter;
+
+    LoadGenerator(LoadTestOptions options) {
+        this.options = options;
+        this.clients = fixedPool(options.concurrency(), "loadtest-client-");
+        this.httpClientExecutor = fixedPool(Math.max(2, options.concurrency() / 2), "loadtest-http-");
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(httpClientExecutor)
+                .build();
+
+        clientThreads.add(Thread.currentThread());
+        // The selector thread of the HTTP client reads and writes all connections
+        Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().contains("SelectorManager"))
+                .forEach(clientThreads::add);
+        this.allocationMeter = new AllocationMeter(clientThreads);
+    }
+
+    HttpClient httpClient() {
+        return httpClient;
+    }
+
+    void warmUp(Scenario scenario) throws InterruptedException {
+        drive(scenario, options.warmup());
+    }
+
+    Result measure(Scenario scenario) throws InterruptedException {
+        long bytesBefore = allocationMeter.applicationBytes();
+        long start = System.nanoTime();
+        Measurement measurement = drive(scenario, options.duration());
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long bytes = allocationMeter.applicationBytes() - bytesBefore;
+
+        Histogram latencies = measurement.latencies();
+        long requests = latencies.getTotalCount();
+        return new Result(scenario.operationId(), requests, measurement.unexpected(), requests / seconds,
+                micros(latencies.getValueAtPercentile(50)), micros(latencies.getValueAtPercentile(99)),
+                micros(latencies.getValueAtPercentile(99.9)), bytes / seconds / (1024 * 1024),
+                requests == 0 ? 0 : bytes / requests);
+    }
+
+    private Measurement drive(Scenario scenario, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        List<Future<Measurement>> futures = new ArrayList<>(options.concurrency());
+        for (int i = 0; i < options.concurrency(); i++) {
+            futures.add(clients.submit(() -> client(scenario, deadline)));
+        }
+
+        Histogram latencies = new Histogram(HIGHEST_LATENCY, 3);
+        long unexpected = 0;
+        for (Future<Measurement> future : futures) {
+            try {
+                Measurement measurement = future.get();
+                latencies.add(measurement.latencies());
+                unexpected += measurement.unexpected();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Client of " + scenario.operationId() + " failed", e.getCause());
+            }
+        }
+        return new Measurement(latencies, unexpected);
+    }
+
+    private Measurement client(Scenario scenario, long deadline) {
+        Histogram latencies = new Histogram(HIGHEST_LATENCY, 3);
+        long unexpected = 0;
+        while (System.nanoTime() < deadline) {
+            Call call = scenario.next(options.invalidRatio());
+            long start = System.nanoTime();
+            try {
+                int status = httpClient.send(call.request(), HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status != call.expectedStatus()) {
+                    unexpected++;
+                }
+            } catch (IOException e) {
+                unexpected++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            latencies.recordValue(Math.min(System.nanoTime() - start, HIGHEST_LATENCY));
+        }
+        return new Measurement(latencies, unexpected);
+    }
+
+    /*
+    Pool of threads which are all started up front and live until the pool is closed, so their allocations can be
+    told apart from the application's.
+     */
+    private ThreadPoolExecutor fixedPool(int size, String namePrefix) {
+        AtomicInteger count = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            clientThreads.add(thread);
+            return thread;
+        };
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) Executors.newFixedThreadPool(size, threadFactory);
+        pool.prestartAllCoreThreads();
+        return pool;
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    @Override
+    public void close() {
+        httpClient.close();
+        clients.shutdownNow();
+        httpClientExecutor.shutdownNow();
+    }
+
+    private record Measurement(Histogram latencies, long unexpected) {
+    }
+}
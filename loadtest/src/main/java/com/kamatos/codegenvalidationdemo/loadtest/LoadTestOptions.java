@@ -0,0 +1,81 @@
+package com.kamatos.codegenvalidationdemo.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Options of a load test run, given as `--name=value` arguments.
+ *
+ * @param concurrency         number of clients sending requests back to back, per operation
+ * @param warmup              time each operation runs before the first one is measured
+ * @param duration            measured time of each operation
+ * @param invalidRatio        share of requests with an invalid payload, between 0 and 1
+ * @param operations          operation ids to run
+ * @param stacks              web stacks to run, one after the other, each in a fresh application context
+ * @param baseline            file of the allocation baseline, `null` for the {@link Stack#defaultBaseline() default}
+ * @param timingBaseline      file of the local throughput and latency baseline, `null` for the
+ *                            {@link Stack#defaultTimingBaseline() default}
+ * @param checkTiming         whether to compare throughput and p99 latency with the timing baseline as well
+ * @param tolerance           allowed relative regression of throughput and p99 latency
+ * @param allocationTolerance allowed relative regression of the allocated bytes per request
+ * @param updateBaseline      whether to store the results as the new baselines instead of comparing with them
+ */
+record LoadTestOptions(int concurrency, Duration warmup, Duration duration, double invalidRatio, Pattern operations,
+                       List<Stack> stacks, Path baseline, Path timingBaseline, boolean checkTiming, double tolerance,
+                       double allocationTolerance, boolean updateBaseline) {
+    private static final Set<String> NAMES = Set.of("concurrency", "warmup", "duration", "invalid-ratio", "operations",
+            "stack", "baseline", "timing-baseline", "check-timing", "tolerance", "allocation-tolerance",
+            "update-baseline");
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            int separator = arg.indexOf('=');
+            String name = separator < 0 ? arg.substring(2) : arg.substring(2, separator);
+            if (!NAMES.contains(name)) {
+                throw new IllegalArgumentException("Unknown option " + name + ", expected one of " + NAMES);
+            }
+            values.put(name, separator < 0 ? "true" : arg.substring(separator + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("concurrency", "16")),
+                DurationStyle.detectAndParse(values.getOrDefault("warmup", "5s")),
+                DurationStyle.detectAndParse(values.getOrDefault("duration", "10s")),
+                Double.parseDouble(values.getOrDefault("invalid-ratio", "0.3")),
+                Pattern.compile(values.getOrDefault("operations", ".*")),
+                Arrays.stream(values.getOrDefault("stack", "mvc").split(",")).map(Stack::of).distinct().toList(),
+                values.containsKey("baseline") ? Path.of(values.get("baseline")) : null,
+                values.containsKey("timing-baseline") ? Path.of(values.get("timing-baseline")) : null,
+                Boolean.parseBoolean(values.getOrDefault("check-timing", "false")),
+                Double.parseDouble(values.getOrDefault("tolerance", "0.25")),
+                Double.parseDouble(values.getOrDefault("allocation-tolerance", "0.10")),
+                Boolean.parseBoolean(values.getOrDefault("update-baseline", "false")));
+        if (options.invalidRatio < 0 || options.invalidRatio > 1) {
+            throw new IllegalArgumentException("invalid-ratio must be between 0 and 1");
+        }
+        if ((options.baseline != null || options.timingBaseline != null) && options.stacks.size() > 1) {
+            throw new IllegalArgumentException("baseline applies to a single stack, every stack has its own default");
+        }
+        return options;
+    }
+
+    Path baseline(Stack stack) {
+        return baseline != null ? baseline : stack.defaultBaseline();
+    }
+
+    Path timingBaseline(Stack stack) {
+        return timingBaseline != null ? timingBaseline : stack.defaultTimingBaseline();
+    }
+}
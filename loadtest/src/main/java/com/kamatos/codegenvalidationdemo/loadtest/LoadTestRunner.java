@@ -0,0 +1,169 @@
+package com.kamatos.codegenvalidationdemo.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * End-to-end load test of the application: starts it on a random local port, drives every operation of the API one
+ * after the other with a mix of valid and invalid requests, reports throughput, latency percentiles and allocation per
+ * operation, and fails when a result regressed past the stored {@link Baseline}s. Runs the servlet and the reactive
+ * {@link Stack} one after the other, side by side when both are selected.
+ * <p>
+ * Usage: `LoadTestRunner [--name=value ...]`, see {@link LoadTestOptions} for the options.
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        System.out.printf("%d clients, %s warmup, %s measurement per operation, %.0f%% invalid requests%n",
+                options.concurrency(), DurationStyle.SIMPLE.print(options.warmup()),
+                DurationStyle.SIMPLE.print(options.duration()), options.invalidRatio() * 100);
+
+        Map<Stack, List<Result>> results = new EnumMap<>(Stack.class);
+        for (Stack stack : options.stacks()) {
+            results.put(stack, run(stack, options, objectMapper));
+        }
+        if (results.size() > 1) {
+            printComparison(results);
+        }
+
+        int exitCode = 0;
+        for (Map.Entry<Stack, List<Result>> entry : results.entrySet()) {
+            exitCode = Math.max(exitCode, evaluate(entry.getKey(), options, entry.getValue()));
+        }
+        System.exit(exitCode);
+    }
+
+    private static List<Result> run(Stack stack, LoadTestOptions options, ObjectMapper objectMapper)
+            throws IOException, InterruptedException {
+        try (ConfigurableApplicationContext context = stack.start(
+                "--server.port=0", "--spring.main.banner-mode=off", "--logging.level.root=WARN");
+             LoadGenerator loadGenerator = new LoadGenerator(options)) {
+            URI base = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+
+            List<Scenario> scenarios = Scenarios.create(loadGenerator.httpClient(), base, objectMapper);
+            checkCoverage(loadGenerator, base, objectMapper, scenarios);
+
+            System.out.printf("%n%s%n", stack.id());
+            System.out.printf("%-20s %10s %10s %10s %10s %10s %10s %12s %10s%n", "operation", "requests", "req/s",
+                    "p50 us", "p99 us", "p999 us", "MB/s", "B/request", "unexpected");
+
+            List<Scenario> selected = scenarios.stream()
+                    .filter(scenario -> options.operations().matcher(scenario.operationId()).matches())
+                    .toList();
+            // Every operation is warmed up before any is measured, which keeps the JIT state of a measurement
+            // independent of the selected operations and their order
+            for (Scenario scenario : selected) {
+                loadGenerator.warmUp(scenario);
+            }
+
+            List<Result> results = new ArrayList<>();
+            for (Scenario scenario : selected) {
+                Result result = loadGenerator.measure(scenario);
+                System.out.printf("%-20s %10d %10.0f %10d %10d %10d %10.1f %12d %10d%n", result.operationId(),
+                        result.requests(), result.throughput(), result.p50Micros(), result.p99Micros(),
+                        result.p999Micros(), result.allocationRate(), result.bytesPerRequest(), result.unexpected());
+                results.add(result);
+            }
+            return results;
+        }
+    }
+
+    /*
+    Throughput, p99 and allocation of every operation side by side, relative to the first stack.
+     */
+    private static void printComparison(Map<Stack, List<Result>> results) {
+        Stack reference = results.keySet().iterator().next();
+        System.out.printf("%ncomparison with %s%n", reference.id());
+        System.out.printf("%-20s %-10s %10s %8s %10s %8s %12s %8s%n", "operation", "stack", "req/s", "ratio",
+                "p99 us", "ratio", "B/request", "ratio");
+
+        for (Result referenceResult : results.get(reference)) {
+            results.forEach((stack, stackResults) -> stackResults.stream()
+                    .filter(result -> result.operationId().equals(referenceResult.operationId()))
+                    .findFirst()
+                    .ifPresent(result -> System.out.printf("%-20s %-10s %10.0f %8.2f %10d %8.2f %12d %8.2f%n",
+                            result.operationId(), stack.id(),
+                            result.throughput(), result.throughput() / referenceResult.throughput(),
+                            result.p99Micros(), (double) result.p99Micros() / referenceResult.p99Micros(),
+                            result.bytesPerRequest(),
+                            (double) result.bytesPerRequest() / referenceResult.bytesPerRequest())));
+        }
+    }
+
+    private static int evaluate(Stack stack, LoadTestOptions options, List<Result> results) throws IOException {
+        System.out.println();
+        List<String> failures = new ArrayList<>();
+        results.stream()
+                .filter(result -> result.unexpected() > 0)
+                .forEach(result -> failures.add(String.format("%s: %d requests got an unexpected status",
+                        result.operationId(), result.unexpected())));
+
+        Path baselineFile = options.baseline(stack);
+        Path timingBaselineFile = options.timingBaseline(stack);
+        if (options.updateBaseline()) {
+            Baseline.storeAllocation(baselineFile, results);
+            Baseline.storeTiming(timingBaselineFile, results);
+            System.out.println("Stored the " + stack.id() + " results as baseline in " + baselineFile
+                    + " and " + timingBaselineFile);
+        } else {
+            failures.addAll(compare(baselineFile, options, results));
+            if (options.checkTiming()) {
+                failures.addAll(compare(timingBaselineFile, options, results));
+            }
+        }
+
+        if (failures.isEmpty()) {
+            System.out.println("No regressions of " + stack.id());
+            return 0;
+        }
+        failures.forEach(failure -> System.out.println("FAILED " + stack.id() + " " + failure));
+        return 1;
+    }
+
+    private static List<String> compare(Path baselineFile, LoadTestOptions options, List<Result> results)
+            throws IOException {
+        Baseline baseline = Baseline.load(baselineFile);
+        if (baseline.isEmpty()) {
+            System.out.println("No baseline in " + baselineFile + ", record one with --update-baseline");
+            return List.of();
+        }
+        return baseline.regressions(results, options.tolerance(), options.allocationTolerance());
+    }
+
+    /*
+    Every operation the application serves, according to its OpenAPI document, needs a scenario.
+     */
+    private static void checkCoverage(LoadGenerator loadGenerator, URI base, ObjectMapper objectMapper,
+                                      List<Scenario> scenarios) throws IOException, InterruptedException {
+        HttpResponse<String> response = loadGenerator.httpClient().send(
+                HttpRequest.newBuilder(base.resolve("/v3/api-docs")).build(), HttpResponse.BodyHandlers.ofString());
+        JsonNode paths = objectMapper.readTree(response.body()).path("paths");
+
+        Set<String> missing = new TreeSet<>();
+        paths.forEach(path -> path.forEach(operation -> missing.add(operation.path("operationId").asText())));
+        scenarios.forEach(scenario -> missing.remove(scenario.operationId()));
+        if (missing.isEmpty() && !paths.isEmpty()) {
+            return;
+        }
+        throw new IllegalStateException(paths.isEmpty()
+                ? "No operations found in the OpenAPI document"
+                : "No scenario for the operations " + missing);
+    }
+}
@@ -0,0 +1,17 @@
+package com.kamatos.codegenvalidationdemo.loadtest;
+
+/**
+ * Measured load of a single operation.
+ *
+ * @param requests        completed requests
+ * @param unexpected      requests answered with another status than expected, or failed
+ * @param throughput      requests per second
+ * @param p50Micros       median latency
+ * @param p99Micros       99th percentile latency
+ * @param p999Micros      99.9th percentile latency
+ * @param allocationRate  MB allocated per second by the application
+ * @param bytesPerRequest bytes allocated by the application per request
+ */
+record Result(String operationId, long requests, long unexpected, double throughput, long p50Micros, long p99Micros,
+              long p999Micros, double allocationRate, long bytesPerRequest) {
+}
@@ -0,0 +1,35 @@
+package com.kamatos.codegenvalidationdemo.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Requests driving a single operation of the API, picked at random from the valid and the invalid ones.
+ */
+record Scenario(String operationId, List<Call> valid, List<Call> invalid) {
+
+    Call next(double invalidRatio) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Call> calls = invalid.isEmpty() || random.nextDouble() >= invalidRatio ? valid : invalid;
+        return calls.get(random.nextInt(calls.size()));
+    }
+
+    /**
+     * A prepared request and the status it has to be answered with.
+     */
+    record Call(HttpRequest request, int expectedStatus) {
+
+        static Call get(URI uri, int expectedStatus) {
+            return new Call(HttpRequest.newBuilder(uri).GET().build(), expectedStatus);
+        }
+
+        static Call send(String method, URI uri, String contentType, String body, int expectedStatus) {
+            return new Call(HttpRequest.newBuilder(uri)
+                    .header("Content-Type", contentType)
+                    .method(method, HttpRequest.BodyPublishers.ofString(body))
+                    .build(), expectedStatus);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.kamatos.codegenvalidationdemo.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kamatos.codegenvalidationdemo.loadtest.Scenario.Call;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link Scenario} per operation of `items-service.openapi.yaml`. Invalid requests are the multi-error cases of
+ * `ItemsControllerTest`, so error responses carry several errors, and updates and listings work on seeded items of
+ * their own email, which the created items don't touch.
+ */
+final class Scenarios {
+    static final String SEED_EMAIL = "load.seed@example.com";
+    static final int SEED_ITEMS = 100;
+
+    private static final String JSON = "application/json";
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String VALID_ITEM = "{\"name\": \"John\", \"email\": \"john.doe@example.com\"}";
+    private static final String SEED_ITEM = "{\"name\": \"Seed\", \"email\": \"" + SEED_EMAIL + "\"}";
+    private static final List<String> INVALID_ITEMS = List.of(
+            "{\"name\": \"test\"}",
+            "{\"name\": \"test\", \"email\": \"invalid-format\"}",
+            "{\"name\": \"\", \"email\": \"john.doe@test.com\"}");
+    private static final int BATCH_SIZE = 10;
+
+    private Scenarios() {
+    }
+
+    static List<Scenario> create(HttpClient client, URI base, ObjectMapper objectMapper)
+            throws IOException, InterruptedException {
+        List<UUID> seeded = seed(client, base, objectMapper);
+
+        return List.of(
+                new Scenario("createItem",
+                        List.of(Call.send("POST", base.resolve("/api/items"), JSON, VALID_ITEM, 201)),
+                        INVALID_ITEMS.stream()
+                                .map(body -> Call.send("POST", base.resolve("/api/items"), JSON, body, 400))
+                                .toList()),
+                new Scenario("getItems",
+                        List.of(Call.get(base.resolve("/api/items?limit=20&email=" + SEED_EMAIL), 200)),
+                        List.of(Call.get(base.resolve("/api/items?email=dummy@test.com"), 400),
+                                Call.get(base.resolve("/api/items?cursor=invalid"), 400))),
+                new Scenario("streamItems",
+                        List.of(Call.get(base.resolve("/api/items/stream?email=" + SEED_EMAIL), 200)),
+                        List.of(Call.get(base.resolve("/api/items/stream?email=dummy@test.com"), 400))),
+                // Invalid elements don't fail a batch, they get error results
+                new Scenario("createItemsBatch",
+                        List.of(Call.send("POST", base.resolve("/api/items/batch"), NDJSON,
+                                batch(List.of(VALID_ITEM)), 200)),
+                        List.of(Call.send("POST", base.resolve("/api/items/batch"), NDJSON,
+                                batch(INVALID_ITEMS), 200))),
+                new Scenario("updateItem",
+                        seeded.stream().map(id -> Call.send("PUT", item(base, id), JSON, SEED_ITEM, 200)).toList(),
+                        seeded.stream().map(id -> Call.send("PUT", item(base, id), JSON, "{\"name\": \"test\"}", 400))
+                                .toList()),
+                new Scenario("validatedUpdateItem",
+                        seeded.stream().map(id -> Call.send("PATCH", item(base, id), JSON, SEED_ITEM, 200)).toList(),
+                        seeded.stream().map(id -> Call.send("PATCH", item(base, id), JSON, "{\"name\": \"test\"}", 400))
+                                .toList()));
+    }
+
+    private static List<UUID> seed(HttpClient client, URI base, ObjectMapper objectMapper)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(base.resolve("/api/items"))
+                .header("Content-Type", JSON)
+                .POST(HttpRequest.BodyPublishers.ofString(SEED_ITEM))
+                .build();
+
+        List<UUID> ids = new ArrayList<>(SEED_ITEMS);
+        for (int i = 0; i < SEED_ITEMS; i++) {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Seeding failed with " + response.statusCode() + ": " + response.body());
+            }
+            ids.add(UUID.fromString(objectMapper.readTree(response.body()).get("id").asText()));
+        }
+        return ids;
+    }
+
+    private static URI item(URI base, UUID id) {
+        return base.resolve("/api/items/" + id);
+    }
+
+    private static String batch(List<String> items) {
+        return IntStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> items.get(i % items.size()))
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,60 @@
+package com.kamatos.codegenvalidationdemo.loadtest;
+
+import com.kamatos.codegenvalidationdemo.CodegenMvcValidationDemoApplication;
+import com.kamatos.codegenvalidationdemo.reactive.ReactiveItemsApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Web stack serving the API under load. Both are on the classpath, so the web application type is always explicit.
+ */
+enum Stack {
+    MVC {
+        @Override
+        ConfigurableApplicationContext start(String... args) {
+            return new SpringApplicationBuilder(CodegenMvcValidationDemoApplication.class)
+                    .web(WebApplicationType.SERVLET)
+                    .run(args);
+        }
+    },
+    REACTIVE {
+        @Override
+        ConfigurableApplicationContext start(String... args) {
+            // Boot prefers Tomcat's reactive adapter when Tomcat is present, the reactive stack is meant to run on Netty
+            return ReactiveItemsApplication.builder()
+                    .initializers(context -> ((GenericApplicationContext) context)
+                            .registerBean(NettyReactiveWebServerFactory.class))
+                    .run(args);
+        }
+    };
+
+    abstract ConfigurableApplicationContext start(String... args);
+
+    /**
+     * Default baseline of the stack: `loadtest/baseline.json` for MVC, `loadtest/baseline-<stack>.json` otherwise.
+     */
+    Path defaultBaseline() {
+        return Path.of(this == MVC ? "loadtest/baseline.json" : "loadtest/baseline-" + id() + ".json");
+    }
+
+    /**
+     * Machine specific, not committed.
+     */
+    Path defaultTimingBaseline() {
+        return Path.of(this == MVC ? "loadtest/baseline.local.json" : "loadtest/baseline-" + id() + ".local.json");
+    }
+
+    String id() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    static Stack of(String id) {
+        return valueOf(id.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,44 @@
+package com.kamatos.codegenvalidationdemo.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kamatos.codegenvalidationdemo.config.WireFormat;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CBOR encoder which also writes a {@link Flux}, as a single array of its elements the same way the JSON encoder
+ * writes non-streaming media types. The plain encoder only writes single values, which fails the page of
+ * `GET /api/items`.
+ */
+class CollectingCborEncoder extends Jackson2CborEncoder {
+
+    CollectingCborEncoder(ObjectMapper objectMapper) {
+        super(objectMapper, WireFormat.CBOR.mediaType());
+    }
+
+    @Override
+    @NonNull
+    public Flux<DataBuffer> encode(@NonNull Publisher<?> inputStream, @NonNull DataBufferFactory bufferFactory,
+                                   @NonNull ResolvableType elementType, @Nullable MimeType mimeType,
+                                   @Nullable Map<String, Object> hints) {
+        if (inputStream instanceof Mono<?> mono) {
+            return mono.map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints)).flux();
+        }
+        ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, elementType);
+        return Flux.from(inputStream)
+                .collectList()
+                .map(list -> encodeValue(list, bufferFactory, listType, mimeType, hints))
+                .flux();
+    }
+}
@@ -0,0 +1,88 @@
+package com.kamatos.codegenvalidationdemo.reactive;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the streamed responses, {@link InputStreamResource}s producing NDJSON while they are read, reading the
+ * stream on a bounded elastic thread. The default resource writer reads on the event loop, where a stream waiting for
+ * more of the request body, like the results of a batch, would block the thread that is to deliver it. It also
+ * allocates a full buffer per read, which for these streams is a single line. Here every buffer is filled up to its
+ * size first, the way the output buffer of a servlet container is.
+ */
+class InputStreamResourceHttpMessageWriter implements HttpMessageWriter<InputStreamResource> {
+    private static final int BUFFER_SIZE = 8192;
+
+    @Override
+    @NonNull
+    public List<MediaType> getWritableMediaTypes() {
+        return List.of(MediaType.ALL);
+    }
+
+    @Override
+    public boolean canWrite(@NonNull ResolvableType elementType, @Nullable MediaType mediaType) {
+        return InputStreamResource.class.isAssignableFrom(elementType.toClass());
+    }
+
+    @Override
+    @NonNull
+    public Mono<Void> write(@NonNull Publisher<? extends InputStreamResource> inputStream,
+                            @NonNull ResolvableType elementType, @Nullable MediaType mediaType,
+                            @NonNull ReactiveHttpOutputMessage message, @NonNull Map<String, Object> hints) {
+        return Mono.from(inputStream).flatMap(resource -> {
+            HttpHeaders headers = message.getHeaders();
+            if (headers.getContentType() == null) {
+                headers.setContentType(mediaType != null && mediaType.isConcrete()
+                        ? mediaType
+                        : MediaType.APPLICATION_OCTET_STREAM);
+            }
+
+            Flux<DataBuffer> body = read(resource, message.bufferFactory()).subscribeOn(Schedulers.boundedElastic());
+            return message.writeWith(body);
+        });
+    }
+
+    private static Flux<DataBuffer> read(InputStreamResource resource, DataBufferFactory bufferFactory) {
+        return Flux.using(resource::getInputStream, input -> Flux.generate(() -> new byte[BUFFER_SIZE],
+                (byte[] chunk, SynchronousSink<DataBuffer> sink) -> {
+                    try {
+                        int count = input.readNBytes(chunk, 0, chunk.length);
+                        if (count > 0) {
+                            sink.next(bufferFactory.allocateBuffer(count).write(chunk, 0, count));
+                        }
+                        if (count < chunk.length) {
+                            sink.complete();
+                        }
+                    } catch (IOException e) {
+                        sink.error(e);
+                    }
+                    return chunk;
+                }), InputStreamResourceHttpMessageWriter::closeQuietly);
+    }
+
+    private static void closeQuietly(InputStream input) {
+        try {
+            input.close();
+        } catch (IOException ignored) {
+            // Nothing left to read
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.kamatos.codegenvalidationdemo.reactive;
+
+import com.kamatos.codegenvalidationdemo.config.JacksonConfig;
+import com.kamatos.codegenvalidationdemo.exception.PreEncodedErrorBodies;
+import com.kamatos.codegenvalidationdemo.observability.ValidationMetrics;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * The items API on Spring WebFlux. Models, validators, store and error messages are the servlet application's, only
+ * its web layer (controller, error handler, size limit filter, codecs) is replaced by the reactive one of this package.
+ * <p>
+ * This package lies within the servlet application's, which scans it too when both are on the classpath, e.g. in the
+ * load test. Its beans are therefore conditional on a reactive web application.
+ */
+@SpringBootApplication(scanBasePackages = {
+        "com.kamatos.codegenvalidationdemo.reactive",
+        "com.kamatos.codegenvalidationdemo.api.model",
+        "com.kamatos.codegenvalidationdemo.batch",
+        "com.kamatos.codegenvalidationdemo.i18n",
+        "com.kamatos.codegenvalidationdemo.repository",
+        "com.kamatos.codegenvalidationdemo.validation"})
+@Import({JacksonConfig.class, PreEncodedErrorBodies.class, ValidationMetrics.class})
+@EnableScheduling
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemsApplication {
+
+    /**
+     * The reactive stack is requested explicitly, so the application also starts next to the servlet one, e.g. in
+     * the load test.
+     */
+    public static SpringApplicationBuilder builder() {
+        return new SpringApplicationBuilder(ReactiveItemsApplication.class).web(WebApplicationType.REACTIVE);
+    }
+
+    public static void main(String[] args) {
+        builder().run(args);
+    }
+}
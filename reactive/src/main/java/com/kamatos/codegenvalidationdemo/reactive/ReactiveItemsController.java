@@ -0,0 +1,148 @@
+package com.kamatos.codegenvalidationdemo.reactive;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kamatos.codegenvalidationdemo.api.model.CreateItemRequest;
+import com.kamatos.codegenvalidationdemo.api.model.ItemResponse;
+import com.kamatos.codegenvalidationdemo.api.model.UpdateItemRequest;
+import com.kamatos.codegenvalidationdemo.api.model.ValidatedUpdateItemRequest;
+import com.kamatos.codegenvalidationdemo.api.model.ValidationError;
+import com.kamatos.codegenvalidationdemo.batch.BatchCreateItemsProcessor;
+import com.kamatos.codegenvalidationdemo.controller.ItemCursor;
+import com.kamatos.codegenvalidationdemo.exception.CustomValidationException;
+import com.kamatos.codegenvalidationdemo.reactive.api.ItemsApi;
+import com.kamatos.codegenvalidationdemo.repository.Item;
+import com.kamatos.codegenvalidationdemo.repository.ItemRepository;
+import com.kamatos.codegenvalidationdemo.stream.ItemsNdjsonInputStream;
+import com.kamatos.codegenvalidationdemo.validation.ItemsValidatorsRegistrar;
+import com.kamatos.codegenvalidationdemo.validation.NameValidator;
+import com.kamatos.codegenvalidationdemo.validation.constraint.ValidCursor;
+import com.kamatos.codegenvalidationdemo.validation.constraint.ValidEmail;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.InitBinder;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reactive implementation of the items API. Request bodies are bound and validated by WebFlux through the same
+ * {@link ItemsValidatorsRegistrar} chains as in the servlet controller, so a body reports all of its errors at once
+ * under the same codes.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemsController implements ItemsApi {
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    // Buffers of the batch body requested ahead of the parser
+    private static final int BATCH_BODY_DEMAND = 16;
+
+    private final ItemsValidatorsRegistrar validatorsRegistrar;
+    private final BatchCreateItemsProcessor batchCreateItemsProcessor;
+    private final ItemRepository itemRepository;
+    private final JsonFactory jsonFactory;
+
+    public ReactiveItemsController(ItemsValidatorsRegistrar validatorsRegistrar,
+                                   BatchCreateItemsProcessor batchCreateItemsProcessor, ItemRepository itemRepository,
+                                   ObjectMapper objectMapper) {
+        this.validatorsRegistrar = validatorsRegistrar;
+        this.batchCreateItemsProcessor = batchCreateItemsProcessor;
+        this.itemRepository = itemRepository;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    @InitBinder
+    public void initBinder(WebDataBinder binder) {
+        validatorsRegistrar.initItemsControllerBinder(binder);
+    }
+
+    @Override
+    public Mono<ResponseEntity<ItemResponse>> createItem(Mono<CreateItemRequest> createItemRequest,
+                                                         ServerWebExchange exchange) {
+        return createItemRequest.map(request ->
+                ResponseEntity.status(HttpStatus.CREATED)
+                        .body(toResponse(itemRepository.create(request.getName(), request.getEmail()))));
+    }
+
+    /*
+    The body is read from the exchange rather than through the resource argument, which WebFlux would aggregate in
+    memory. The processor parses it with blocking reads, so it runs on a bounded elastic thread.
+     */
+    @Override
+    public Mono<ResponseEntity<Resource>> createItemsBatch(Mono<Resource> body, ServerWebExchange exchange) {
+        return Mono.fromCallable(() -> {
+            InputStream input = DataBufferUtils.subscriberInputStream(exchange.getRequest().getBody(),
+                    BATCH_BODY_DEMAND);
+            InputStream results = batchCreateItemsProcessor.process(input, exchange.getLocaleContext().getLocale());
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .<Resource>body(new InputStreamResource(results));
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<ResponseEntity<Flux<ItemResponse>>> getItems(@ValidEmail String email, @ValidCursor String cursor,
+                                                             Integer limit, ServerWebExchange exchange) {
+        ItemRepository.Page page = itemRepository.findPage(email, ItemCursor.decode(cursor), limit);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.next() != null) {
+            response.header(NEXT_CURSOR_HEADER, ItemCursor.encode(page.next()));
+        }
+        return Mono.just(response.body(Flux.fromIterable(page.items()).map(ReactiveItemsController::toResponse)));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Resource>> streamItems(@ValidEmail String email, @ValidCursor String cursor,
+                                                      ServerWebExchange exchange) {
+        return Mono.fromCallable(() -> {
+            Iterator<Item> items = itemRepository.iterate(email, ItemCursor.decode(cursor));
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(new InputStreamResource(new ItemsNdjsonInputStream(items, jsonFactory)));
+        });
+    }
+
+    @Override
+    public Mono<ResponseEntity<ItemResponse>> updateItem(UUID id, Mono<UpdateItemRequest> updateItemRequest,
+                                                         ServerWebExchange exchange) {
+        return updateItemRequest.flatMap(request -> {
+            List<ValidationError> errors = NameValidator.validateNameIfTest(request.getName());
+
+            if (!errors.isEmpty()) {
+                return Mono.error(new CustomValidationException(errors));
+            }
+
+            return update(id, request.getName(), request.getEmail());
+        });
+    }
+
+    @Override
+    public Mono<ResponseEntity<ItemResponse>> validatedUpdateItem(
+            UUID id, Mono<ValidatedUpdateItemRequest> validatedUpdateItemRequest, ServerWebExchange exchange) {
+        return validatedUpdateItemRequest.flatMap(request -> update(id, request.getName(), request.getEmail()));
+    }
+
+    private Mono<ResponseEntity<ItemResponse>> update(UUID id, String name, String email) {
+        return Mono.just(itemRepository.update(id, name, email)
+                .map(item -> ResponseEntity.ok(toResponse(item)))
+                .orElseGet(() -> ResponseEntity.notFound().build()));
+    }
+
+    private static ItemResponse toResponse(Item item) {
+        return new ItemResponse().id(item.id()).name(item.name()).email(item.email());
+    }
+}
@@ -0,0 +1,124 @@
+package com.kamatos.codegenvalidationdemo.reactive;
+
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+import com.kamatos.codegenvalidationdemo.api.model.ValidationError;
+import com.kamatos.codegenvalidationdemo.api.model.ValidationErrorResponse;
+import com.kamatos.codegenvalidationdemo.config.WireFormat;
+import com.kamatos.codegenvalidationdemo.exception.CustomValidationException;
+import com.kamatos.codegenvalidationdemo.exception.FieldTooLongException;
+import com.kamatos.codegenvalidationdemo.exception.PreEncodedErrorBodies;
+import com.kamatos.codegenvalidationdemo.exception.RequestBodyTooLargeException;
+import com.kamatos.codegenvalidationdemo.exception.ValidationErrorHandler;
+import com.kamatos.codegenvalidationdemo.i18n.ErrorMessageCatalog;
+import com.kamatos.codegenvalidationdemo.observability.Endpoint;
+import com.kamatos.codegenvalidationdemo.observability.ErrorRenderingEvent;
+import com.kamatos.codegenvalidationdemo.observability.ValidationMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.kamatos.codegenvalidationdemo.exception.ValidationErrorMapper.buildParameterValidationErrors;
+import static com.kamatos.codegenvalidationdemo.exception.ValidationErrorMapper.buildValidationErrors;
+
+/**
+ * Reactive counterpart of {@link ValidationErrorHandler}, rendering the WebFlux validation failures as the same
+ * `ValidationErrorResponse`s: all errors of a request in one response, with the same codes, localized messages and
+ * pre-encoded bodies. Locale and format come from the exchange instead of the request bound to the thread.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveValidationErrorHandler {
+    private final PreEncodedErrorBodies preEncodedErrorBodies;
+    private final ValidationMetrics validationMetrics;
+    private final ErrorMessageCatalog errorMessageCatalog;
+
+    @ExceptionHandler(CustomValidationException.class)
+    public ResponseEntity<?> handleCustomValidationException(CustomValidationException ex,
+                                                             ServerWebExchange exchange) {
+        return render("handleCustomValidationException", ex::getErrors, exchange);
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<?> handleBindException(WebExchangeBindException ex, ServerWebExchange exchange) {
+        return render("handleBindException", () -> buildValidationErrors(ex.getBindingResult()), exchange);
+    }
+
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<?> handleMethodValidationException(HandlerMethodValidationException ex,
+                                                             ServerWebExchange exchange) {
+        return render("handleMethodValidationException", () -> buildParameterValidationErrors(ex), exchange);
+    }
+
+    @ExceptionHandler(RequestBodyTooLargeException.class)
+    public ResponseEntity<?> handleBodyTooLarge(RequestBodyTooLargeException ex, ServerWebExchange exchange) {
+        return render("handleBodyTooLarge", () -> List.of(ex.toValidationError()), exchange);
+    }
+
+    /**
+     * Renders bodies rejected by the request limits while they were decoded. Any other unreadable body is left to
+     * the default handling, by rethrowing.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<?> handleInputException(ServerWebInputException ex, ServerWebExchange exchange) {
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof RequestBodyTooLargeException tooLarge) {
+                return render("handleInputException", () -> List.of(tooLarge.toValidationError()), exchange);
+            }
+            if (cause instanceof FieldTooLongException tooLong) {
+                return render("handleInputException", () -> List.of(tooLong.toValidationError()), exchange);
+            }
+            if (cause instanceof StreamConstraintsException) {
+                return render("handleInputException", () -> List.of(ValidationErrorHandler.LIMIT_EXCEEDED), exchange);
+            }
+        }
+        throw ex;
+    }
+
+    private ResponseEntity<?> render(String handler, Supplier<List<ValidationError>> errorsSupplier,
+                                     ServerWebExchange exchange) {
+        ErrorRenderingEvent event = new ErrorRenderingEvent();
+        event.begin();
+        long start = validationMetrics.isEnabled() ? System.nanoTime() : 0;
+
+        List<ValidationError> errors = errorMessageCatalog.localize(errorsSupplier.get(),
+                exchange.getLocaleContext().getLocale());
+        ResponseEntity<?> response = badRequest(errors, exchange);
+
+        if (validationMetrics.isEnabled()) {
+            Endpoint endpoint = endpoint(exchange);
+            validationMetrics.recordErrorRendering(handler, endpoint, System.nanoTime() - start);
+            validationMetrics.recordErrors(errors, endpoint);
+        }
+        event.complete(handler, errors.size());
+        return response;
+    }
+
+    private ResponseEntity<?> badRequest(List<ValidationError> errors, ServerWebExchange exchange) {
+        if (preEncodedErrorBodies.isEnabled()) {
+            WireFormat format = WireFormat.negotiate(exchange.getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT));
+            return ResponseEntity.badRequest()
+                    .contentType(format.mediaType())
+                    .body(preEncodedErrorBodies.encode(errors, format));
+        }
+        return ResponseEntity.badRequest().body(new ValidationErrorResponse().errors(errors));
+    }
+
+    private static Endpoint endpoint(ServerWebExchange exchange) {
+        Object pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null
+                ? Endpoint.of(exchange.getRequest().getMethod().name(), pattern.toString())
+                : Endpoint.NONE;
+    }
+}
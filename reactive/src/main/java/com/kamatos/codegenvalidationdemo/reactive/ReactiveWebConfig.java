@@ -0,0 +1,43 @@
+package com.kamatos.codegenvalidationdemo.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kamatos.codegenvalidationdemo.config.WireFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.util.MimeType;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveWebConfig implements WebFluxConfigurer {
+    private final MappingJackson2CborHttpMessageConverter cborConverter;
+    private final MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    /*
+     * WebFlux has no default CBOR codecs and builds its Smile codecs from a plain builder, both get the object mappers
+     * of the shared converters, so they are configured like JSON and apply the request limits.
+     */
+    @Override
+    public void configureHttpMessageCodecs(@NonNull ServerCodecConfigurer configurer) {
+        // Without media types the codecs would claim JSON
+        ObjectMapper cborMapper = cborConverter.getObjectMapper();
+        MimeType cbor = WireFormat.CBOR.mediaType();
+        ObjectMapper smileMapper = smileConverter.getObjectMapper();
+        MimeType smile = WireFormat.SMILE.mediaType();
+
+        configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper, smile));
+        configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper, smile));
+        configurer.customCodecs().register(new Jackson2CborDecoder(cborMapper, cbor));
+        configurer.customCodecs().register(new CollectingCborEncoder(cborMapper));
+        configurer.customCodecs().register(new InputStreamResourceHttpMessageWriter());
+    }
+}
@@ -0,0 +1,75 @@
+package com.kamatos.codegenvalidationdemo.reactive;
+
+import com.kamatos.codegenvalidationdemo.config.RequestLimits;
+import com.kamatos.codegenvalidationdemo.exception.RequestBodyTooLargeException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of the servlet `RequestSizeLimitFilter`: caps the request body at the
+ * {@link RequestLimits#maxBodySize(String) limit} of the endpoint. The body fails with a
+ * {@link RequestBodyTooLargeException} without being read when the declared `Content-Length` is above the limit, and
+ * otherwise once the bytes passing through pass the limit. {@link ReactiveValidationErrorHandler} renders it like any
+ * other error, localized and with metrics.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RequestSizeLimitWebFilter implements WebFilter {
+    private final RequestLimits requestLimits;
+
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        long limit = requestLimits.maxBodySize(request.getPath().value());
+        if (limit < 0) {
+            return chain.filter(exchange);
+        }
+
+        return chain.filter(exchange.mutate().request(new LimitedRequest(request, limit)).build());
+    }
+
+    private static final class LimitedRequest extends ServerHttpRequestDecorator {
+        private final long limit;
+
+        LimitedRequest(ServerHttpRequest request, long limit) {
+            super(request);
+            this.limit = limit;
+        }
+
+        @Override
+        @NonNull
+        public Flux<DataBuffer> getBody() {
+            if (getHeaders().getContentLength() > limit) {
+                return Flux.error(new RequestBodyTooLargeException(limit));
+            }
+            return Flux.defer(() -> {
+                long[] remaining = {limit};
+                return super.getBody().handle((buffer, sink) -> {
+                    remaining[0] -= buffer.readableByteCount();
+                    if (remaining[0] < 0) {
+                        DataBufferUtils.release(buffer);
+                        sink.error(new RequestBodyTooLargeException(limit));
+                    } else {
+                        sink.next(buffer);
+                    }
+                });
+            });
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.kamatos.codegenvalidationdemo.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.kamatos.codegenvalidationdemo.api.model.CreateItemRequest;
+import com.kamatos.codegenvalidationdemo.api.model.ItemResponse;
+import com.kamatos.codegenvalidationdemo.api.model.UpdateItemRequest;
+import com.kamatos.codegenvalidationdemo.api.model.ValidatedUpdateItemRequest;
+import com.kamatos.codegenvalidationdemo.api.model.ValidationErrorResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+/**
+ * The reactive API validates like the servlet one (see `ItemsControllerTest`): same error codes, messages and all
+ * errors of a request in one response. The application class is named, the servlet one in the parent package would
+ * be found as well.
+ */
+@SpringBootTest(classes = ReactiveItemsApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReactiveItemsControllerTest {
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void createItem_WithTestNameAndNullableEmail_ShouldReturnBadRequest_AllErrors() {
+        webTestClient.post().uri("/api/items")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateItemRequest().name("test"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors.length()").isEqualTo(2)
+                .jsonPath("$.errors[0].code").isEqualTo("NotNull.email")
+                .jsonPath("$.errors[0].message").isEqualTo("must not be null")
+                .jsonPath("$.errors[1].code").isEqualTo("nonTest.name")
+                .jsonPath("$.errors[1].message").isEqualTo("Name cannot be Test");
+    }
+
+    @Test
+    void createItem_WithEmptyName_ShouldReturnBadRequest_GeneratedSchemaValidation() {
+        webTestClient.post().uri("/api/items")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateItemRequest().name("").email("my.email@domain.com"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors.length()").isEqualTo(1)
+                .jsonPath("$.errors[0].code").isEqualTo("Size.name")
+                .jsonPath("$.errors[0].message").isEqualTo("size must be between 1 and 30");
+    }
+
+    @Test
+    void createItem_WithOversizedString_ShouldBeRejectedWhileParsing() {
+        String body = "{\"name\": \"" + "a".repeat(10_000) + "\", \"email\": \"my.email@domain.com\"}";
+
+        webTestClient.post().uri("/api/items")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors.length()").isEqualTo(1)
+                .jsonPath("$.errors[0].code").isEqualTo("request.limit_exceeded");
+    }
+
+    @Test
+    void createItem_WithBodyOverSizeLimit_ShouldReturnBadRequest() {
+        String body = "{\"name\": \"name\", \"email\": \"my.email@domain.com\"}" + " ".repeat(70_000);
+
+        webTestClient.post().uri("/api/items")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors.length()").isEqualTo(1)
+                .jsonPath("$.errors[0].code").isEqualTo("request.body.too_large")
+                .jsonPath("$.errors[0].message").isEqualTo("Request body exceeds 65536 bytes");
+    }
+
+    @Test
+    void createItem_WithContentLengthOverSizeLimitAndGermanLocale_ShouldReturnLocalizedMessage() {
+        String body = "{\"name\": \"name\", \"email\": \"my.email@domain.com\"}" + " ".repeat(70_000);
+
+        webTestClient.post().uri("/api/items")
+                .header(HttpHeaders.ACCEPT_LANGUAGE, "de")
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(body.length())
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors.length()").isEqualTo(1)
+                .jsonPath("$.errors[0].code").isEqualTo("request.body.too_large")
+                .jsonPath("$.errors[0].message").isEqualTo("Anfrage überschreitet 65536 Bytes");
+    }
+
+    @Test
+    void createItem_WithCbor_ShouldValidateLikeJson() throws IOException {
+        CBORMapper cborMapper = new CBORMapper();
+
+        byte[] created = webTestClient.post().uri("/api/items")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .bodyValue(cborMapper.writeValueAsBytes(new CreateItemRequest().name("name").email("my.email@domain.com")))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectBody(byte[].class).returnResult().getResponseBody();
+        assertThat(cborMapper.readValue(created, ItemResponse.class).getName()).isEqualTo("name");
+
+        byte[] rejected = webTestClient.post().uri("/api/items")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .bodyValue(cborMapper.writeValueAsBytes(new CreateItemRequest().name("test")))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectBody(byte[].class).returnResult().getResponseBody();
+        assertThat(cborMapper.readValue(rejected, ValidationErrorResponse.class).getErrors())
+                .extracting("code").containsExactly("NotNull.email", "nonTest.name");
+
+        byte[] page = webTestClient.get().uri("/api/items?email=my.email@domain.com")
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(byte[].class).returnResult().getResponseBody();
+        assertThat(cborMapper.readValue(page, ItemResponse[].class)).isNotEmpty();
+    }
+
+    @Test
+    void getItems_WithGermanLocale_ShouldReturnLocalizedMessages() {
+        webTestClient.get().uri("/api/items?email=dummy@test.com")
+                .header(HttpHeaders.ACCEPT_LANGUAGE, "de-DE,de;q=0.9")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors[*].code").value(containsInAnyOrder(
+                        "email.format.name_lastname_required", "email.domain.blocked"))
+                .jsonPath("$.errors[*].message").value(containsInAnyOrder(
+                        "E-Mail-Adresse muss das Format 'vorname.nachname@domain' haben",
+                        "E-Mail-Domain ist gesperrt"));
+    }
+
+    @Test
+    void getItems_WithInvalidCursor_ShouldReturnBadRequest() {
+        webTestClient.get().uri("/api/items?cursor=not-a-cursor")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors[0].code").isEqualTo("cursor.invalid");
+    }
+
+    @Test
+    void getItems_WithInvalidCursorAndInvalidEmail_ShouldReturnAllErrors() {
+        webTestClient.get().uri("/api/items?cursor=not-a-cursor&email=dummy@domain.com")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors.length()").isEqualTo(2)
+                .jsonPath("$.errors[?(@.code == 'cursor.invalid')]").exists()
+                .jsonPath("$.errors[?(@.code == 'email.format.name_lastname_required')]").exists();
+    }
+
+    @Test
+    void getItems_WithLimit_ShouldFollowCursorToStream() {
+        for (int i = 0; i < 3; i++) {
+            createItem("reactive.owner@streaming.com");
+        }
+
+        String cursor = webTestClient.get().uri("/api/items?email=reactive.owner@streaming.com&limit=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.length()").isEqualTo(1)
+                .returnResult().getResponseHeaders().getFirst("X-Next-Cursor");
+
+        String content = webTestClient.get()
+                .uri("/api/items/stream?email=reactive.owner@streaming.com&cursor={cursor}", cursor)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class).returnResult().getResponseBody();
+        assertThat(content.lines()).hasSize(2);
+    }
+
+    @Test
+    void createItemsBatch_WithNdjson_ShouldReturnResultPerElement() {
+        String body = String.join("\n",
+                "{\"name\": \"name\", \"email\": \"my.email@domain.com\"}",
+                "{\"name\": \"test\"}",
+                "{\"name\": \"other\", \"email\": \"other.email@domain.com\"}");
+
+        String content = webTestClient.post().uri("/api/items/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).returnResult().getResponseBody();
+
+        List<String> lines = content.lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(1)).contains("NotNull.email", "nonTest.name");
+        assertThat(lines.get(2)).doesNotContain("errors");
+    }
+
+    @Test
+    void updateItem_ShowcaseSeparatedValidations_ValidEmailInvalidName_ShouldReturnBadRequest_OnlyOneError() {
+        webTestClient.put().uri("/api/items/{id}", UUID.randomUUID())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new UpdateItemRequest().name("test").email("my-email@domain.com"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors.length()").isEqualTo(1)
+                .jsonPath("$.errors[0].code").isEqualTo("name.nonTest");
+    }
+
+    @Test
+    void updateItem_ShowcaseJoinedValidations_NullEmail_ShouldReturnBadRequest_AllErrors() {
+        webTestClient.patch().uri("/api/items/{id}", UUID.randomUUID())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ValidatedUpdateItemRequest().name("test"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors[*].code").value(containsInAnyOrder("NotNull.email", "nonTest.name"));
+    }
+
+    @Test
+    void validatedUpdateItem_ExistingAndUnknownItem() {
+        ItemResponse created = createItem("first.owner@domain.com");
+
+        webTestClient.patch().uri("/api/items/{id}", created.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ValidatedUpdateItemRequest().name("renamed").email("second.owner@domain.com"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.name").isEqualTo("renamed");
+
+        webTestClient.patch().uri("/api/items/{id}", UUID.randomUUID())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ValidatedUpdateItemRequest().name("name").email("my.email@domain.com"))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private ItemResponse createItem(String email) {
+        return webTestClient.post().uri("/api/items")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateItemRequest().name("name").email(email))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(ItemResponse.class).returnResult().getResponseBody();
+    }
+}
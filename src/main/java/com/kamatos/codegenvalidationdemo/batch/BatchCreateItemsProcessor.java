@@ -0,0 +1,91 @@
+package com.kamatos.codegenvalidationdemo.batch;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.kamatos.codegenvalidationdemo.api.model.CreateItemRequest;
+import com.kamatos.codegenvalidationdemo.api.model.ValidationError;
+import com.kamatos.codegenvalidationdemo.exception.ValidationErrorMapper;
+import com.kamatos.codegenvalidationdemo.i18n.ErrorMessageCatalog;
+import com.kamatos.codegenvalidationdemo.observability.Endpoint;
+import com.kamatos.codegenvalidationdemo.observability.ValidationMetrics;
+import com.kamatos.codegenvalidationdemo.repository.ItemRepository;
+import com.kamatos.codegenvalidationdemo.validation.ItemsValidatorsRegistrar;
+import jakarta.validation.Validator;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.bind.WebDataBinder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Creates items from a streamed batch of {@link CreateItemRequest}s. Every element is validated exactly like the
+ * body of `POST /api/items`: bean validation plus the validators registered for the ItemsController. Valid elements
+ * are stored right away.
+ */
+@Component
+public class BatchCreateItemsProcessor {
+    static final String OBJECT_NAME = "createItemRequest";
+
+    private final JsonFactory jsonFactory;
+    private final ObjectReader itemReader;
+    private final SpringValidatorAdapter beanValidator;
+    private final ItemsValidatorsRegistrar validatorsRegistrar;
+    private final ValidationMetrics validationMetrics;
+    private final ItemRepository itemRepository;
+    private final ErrorMessageCatalog errorMessageCatalog;
+
+    public BatchCreateItemsProcessor(ObjectMapper objectMapper, Validator validator,
+                                     ItemsValidatorsRegistrar validatorsRegistrar, ValidationMetrics validationMetrics,
+                                     ItemRepository itemRepository, ErrorMessageCatalog errorMessageCatalog) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.itemReader = objectMapper.readerFor(CreateItemRequest.class);
+        this.beanValidator = new SpringValidatorAdapter(validator);
+        this.validatorsRegistrar = validatorsRegistrar;
+        this.validationMetrics = validationMetrics;
+        this.itemRepository = itemRepository;
+        this.errorMessageCatalog = errorMessageCatalog;
+    }
+
+    /**
+     * Returns the NDJSON encoded results, produced lazily while the returned stream is read. Only a single element
+     * and its result are held in memory at a time. Error messages are in the locale of the current request.
+     */
+    public InputStream process(InputStream body) throws IOException {
+        return process(body, LocaleContextHolder.getLocale());
+    }
+
+    /**
+     * Same as {@link #process(InputStream)}, with error messages in the given locale.
+     */
+    public InputStream process(InputStream body, Locale locale) throws IOException {
+        return new BatchResultInputStream(jsonFactory.createParser(body), jsonFactory, itemReader,
+                request -> create(request, locale), errors -> errorMessageCatalog.localize(errors, locale));
+    }
+
+    BatchResultInputStream.ElementResult create(CreateItemRequest request, Locale locale) {
+        List<ValidationError> errors = errorMessageCatalog.localize(validate(request), locale);
+        if (!errors.isEmpty()) {
+            return new BatchResultInputStream.ElementResult(null, errors);
+        }
+        return new BatchResultInputStream.ElementResult(itemRepository.create(request.getName(), request.getEmail()),
+                List.of());
+    }
+
+    List<ValidationError> validate(CreateItemRequest item) {
+        WebDataBinder binder = new WebDataBinder(item, OBJECT_NAME);
+        binder.setValidator(beanValidator);
+        validatorsRegistrar.initItemsControllerBinder(binder);
+        binder.validate();
+
+        List<ValidationError> errors = ValidationErrorMapper.buildValidationErrors(binder.getBindingResult());
+        if (validationMetrics.isEnabled() && !errors.isEmpty()) {
+            validationMetrics.recordErrors(errors, Endpoint.current());
+        }
+        return errors;
+    }
+}
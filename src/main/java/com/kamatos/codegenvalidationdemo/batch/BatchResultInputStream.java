@@ -0,0 +1,131 @@
+package com.kamatos.codegenvalidationdemo.batch;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.kamatos.codegenvalidationdemo.api.model.CreateItemRequest;
+import com.kamatos.codegenvalidationdemo.api.model.ValidationError;
+import com.kamatos.codegenvalidationdemo.exception.FieldTooLongException;
+import com.kamatos.codegenvalidationdemo.exception.ParameterizedValidationError;
+import com.kamatos.codegenvalidationdemo.repository.Item;
+import com.kamatos.codegenvalidationdemo.stream.NdjsonInputStream;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Pull based transformation of the request elements into NDJSON lines of `BatchItemResult`. Reading the next line
+ * parses the next element, validates it and encodes its result, so the body is never buffered as a whole. A
+ * malformed element ends the batch with a `batch.malformed` result, as the parser cannot resynchronize after it. An
+ * element with a value longer than its property allows is well-formed: its `Size` error is reported and the rest of
+ * the element skipped.
+ */
+class BatchResultInputStream extends NdjsonInputStream {
+    static final String MALFORMED_CODE = "batch.malformed";
+
+    private final JsonParser parser;
+    private final ObjectReader itemReader;
+    private final Function<CreateItemRequest, ElementResult> processor;
+    private final UnaryOperator<List<ValidationError>> localizer;
+
+    private long index;
+    private boolean started;
+    private boolean array;
+
+    BatchResultInputStream(JsonParser parser, JsonFactory jsonFactory, ObjectReader itemReader,
+                           Function<CreateItemRequest, ElementResult> processor,
+                           UnaryOperator<List<ValidationError>> localizer) throws IOException {
+        super(jsonFactory);
+        this.parser = parser;
+        this.itemReader = itemReader;
+        this.processor = processor;
+        this.localizer = localizer;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            parser.close();
+        }
+    }
+
+    @Override
+    protected boolean writeNext(JsonGenerator generator) throws IOException {
+        try {
+            JsonToken token = parser.nextToken();
+            if (!started) {
+                started = true;
+                if (token == JsonToken.START_ARRAY) {
+                    array = true;
+                    token = parser.nextToken();
+                }
+            }
+
+            if (token == null || (array && token == JsonToken.END_ARRAY)) {
+                return false;
+            }
+
+            CreateItemRequest item = itemReader.readValue(parser);
+            writeResult(generator, processor.apply(item));
+        } catch (FieldTooLongException e) {
+            skipElement();
+            writeResult(generator, new ElementResult(null, localizer.apply(List.of(e.toValidationError()))));
+        } catch (JsonProcessingException e) {
+            finish();
+            String message = e.getOriginalMessage();
+            writeResult(generator, new ElementResult(null, localizer.apply(
+                    List.of(new ParameterizedValidationError(MALFORMED_CODE, message, new Object[]{message})))));
+        }
+        index++;
+        return true;
+    }
+
+    /*
+    Advances the parser to the end of the current top-level element.
+     */
+    private void skipElement() throws IOException {
+        int depth = parser.getParsingContext().getNestingDepth() - (array ? 1 : 0);
+        for (; depth > 0; depth--) {
+            while (parser.nextToken() != null) {
+                if (parser.currentToken().isStructStart()) {
+                    parser.skipChildren();
+                } else if (parser.currentToken().isStructEnd()) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private void writeResult(JsonGenerator generator, ElementResult result) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("index", index);
+        if (result.item() != null) {
+            generator.writeFieldName("item");
+            writeItem(generator, result.item());
+        }
+        if (!result.errors().isEmpty()) {
+            generator.writeArrayFieldStart("errors");
+            for (ValidationError error : result.errors()) {
+                generator.writeStartObject();
+                generator.writeStringField("code", error.getCode());
+                generator.writeStringField("message", error.getMessage());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Outcome of a single element: the created item, or the errors which prevented its creation.
+     */
+    record ElementResult(Item item, List<ValidationError> errors) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.kamatos.codegenvalidationdemo.config;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.kamatos.codegenvalidationdemo.exception.FieldTooLongException;
+import jakarta.validation.constraints.Size;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Enforces the `maxLength` of string properties while the body is parsed. The generated models carry it as
+ * `@Size(max = ...)`; such properties are read by a deserializer which checks the length of the token before the
+ * string is created and fails with a {@link FieldTooLongException}. Together with the global `maxStringLength` of the
+ * {@link RequestLimits}, which bounds what the parser buffers for a single token, an oversized value costs at most
+ * that buffer, and the rest of the body is not parsed.
+ * <p>
+ * This trades the single response with all errors for that bound: a body with an over-length field is answered with
+ * that field's `Size` error only, the errors of the other fields are not reported.
+ */
+public class FieldLengthLimitsModule extends SimpleModule {
+
+    public FieldLengthLimitsModule() {
+        super(FieldLengthLimitsModule.class.getSimpleName());
+        setDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public BeanDeserializerBuilder updateBuilder(DeserializationConfig config, BeanDescription beanDesc,
+                                                         BeanDeserializerBuilder builder) {
+                List<SettableBeanProperty> properties = new ArrayList<>();
+                builder.getProperties().forEachRemaining(properties::add);
+                for (SettableBeanProperty property : properties) {
+                    Size size = property.getAnnotation(Size.class);
+                    if (size != null && size.max() < Integer.MAX_VALUE && property.getType().hasRawClass(String.class)) {
+                        builder.addOrReplaceProperty(property.withValueDeserializer(
+                                new BoundedStringDeserializer(property.getName(), size.min(), size.max())), true);
+                    }
+                }
+                return builder;
+            }
+        });
+    }
+
+    static final class BoundedStringDeserializer extends StdScalarDeserializer<String> {
+        private final String property;
+        private final int min;
+        private final int max;
+
+        BoundedStringDeserializer(String property, int min, int max) {
+            super(String.class);
+            this.property = property;
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public String deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.hasToken(JsonToken.VALUE_STRING) && parser.getTextLength() > max) {
+                throw new FieldTooLongException(parser, property, min, max);
+            }
+            return StringDeserializer.instance.deserialize(parser, context);
+        }
+    }
+}
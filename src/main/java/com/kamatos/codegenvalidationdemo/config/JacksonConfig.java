@@ -0,0 +1,51 @@
+package com.kamatos.codegenvalidationdemo.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Object mappers of the {@link WireFormat}s, independent of the web stack serving them.
+ */
+@Configuration
+@EnableConfigurationProperties(RequestLimits.class)
+public class JacksonConfig {
+
+    /*
+     * The binary formats get their object mappers from the same builder as JSON, so they share its configuration and
+     * the request limits. Replace the default converters of these formats, which use a plain builder.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /*
+     * Registered with every object mapper of the builder, as a module bean.
+     */
+    @Bean
+    public FieldLengthLimitsModule fieldLengthLimitsModule() {
+        return new FieldLengthLimitsModule();
+    }
+
+    /*
+     * Applies the request limits to the parser of every request body, so an oversized string, name, number or nesting
+     * fails the parse as soon as the limit is crossed instead of being buffered first and rejected by validation.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer streamReadConstraintsCustomizer(RequestLimits requestLimits) {
+        return builder -> builder.postConfigurer(objectMapper ->
+                objectMapper.getFactory().setStreamReadConstraints(requestLimits.streamReadConstraints()));
+    }
+}
@@ -0,0 +1,49 @@
+package com.kamatos.codegenvalidationdemo.config;
+
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Map;
+
+/**
+ * Size limits of requests, enforced while the body is read so that the work spent on an oversized request is bounded
+ * by the limit rather than by the payload.
+ *
+ * @param maxBodySize         body size limit of endpoints without their own limit, negative for no limit
+ * @param endpointMaxBodySize body size limits by request path, e.g. `[/api/items/batch]=64MB`
+ * @param maxStringLength     longest JSON string value, per field of every request body
+ * @param maxNameLength       longest JSON property name
+ * @param maxNestingDepth     deepest nesting of JSON objects and arrays
+ * @param maxNumberLength     longest JSON number, in characters
+ */
+@ConfigurationProperties("validation.limits")
+public record RequestLimits(@DefaultValue("64KB") DataSize maxBodySize,
+                            Map<String, DataSize> endpointMaxBodySize,
+                            @DefaultValue("1024") int maxStringLength,
+                            @DefaultValue("64") int maxNameLength,
+                            @DefaultValue("16") int maxNestingDepth,
+                            @DefaultValue("32") int maxNumberLength) {
+
+    public RequestLimits {
+        endpointMaxBodySize = endpointMaxBodySize == null ? Map.of() : Map.copyOf(endpointMaxBodySize);
+    }
+
+    /**
+     * Body size limit in bytes for the given request path, negative for no limit.
+     */
+    public long maxBodySize(String path) {
+        DataSize limit = endpointMaxBodySize.get(path);
+        return (limit != null ? limit : maxBodySize).toBytes();
+    }
+
+    public StreamReadConstraints streamReadConstraints() {
+        return StreamReadConstraints.builder()
+                .maxStringLength(maxStringLength)
+                .maxNameLength(maxNameLength)
+                .maxNestingDepth(maxNestingDepth)
+                .maxNumberLength(maxNumberLength)
+                .build();
+    }
+}
@@ -0,0 +1,140 @@
+package com.kamatos.codegenvalidationdemo.config;
+
+import com.kamatos.codegenvalidationdemo.exception.RequestBodyTooLargeException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+
+/**
+ * Caps the request body at the {@link RequestLimits#maxBodySize(String) limit} of the endpoint. The body stream fails
+ * with a {@link RequestBodyTooLargeException} on the first read when the declared `Content-Length` is above the
+ * limit, before anything is read, and otherwise once the bytes read pass the limit. `ValidationErrorHandler` renders
+ * it like any other error, localized and with metrics.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RequestSizeLimitFilter extends OncePerRequestFilter {
+    private final RequestLimits requestLimits;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        long limit = requestLimits.maxBodySize(request.getRequestURI());
+        if (limit < 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        filterChain.doFilter(new LimitedRequest(request, limit), response);
+    }
+
+    private static final class LimitedRequest extends HttpServletRequestWrapper {
+        private final long limit;
+        private ServletInputStream inputStream;
+        private BufferedReader reader;
+
+        LimitedRequest(HttpServletRequest request, long limit) {
+            super(request);
+            this.limit = limit;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new LimitedInputStream(super.getInputStream(), limit, getContentLengthLong());
+            }
+            return inputStream;
+        }
+
+        /*
+        Decodes the limited stream instead of handing out the reader of the container, which would read the body
+        past the limit.
+         */
+        @Override
+        public BufferedReader getReader() throws IOException {
+            if (reader == null) {
+                String encoding = getCharacterEncoding();
+                reader = new BufferedReader(new InputStreamReader(getInputStream(),
+                        encoding != null ? encoding : WebUtils.DEFAULT_CHARACTER_ENCODING));
+            }
+            return reader;
+        }
+    }
+
+    private static final class LimitedInputStream extends ServletInputStream {
+        private final ServletInputStream delegate;
+        private final long limit;
+        private long remaining;
+
+        LimitedInputStream(ServletInputStream delegate, long limit, long contentLength) {
+            this.delegate = delegate;
+            this.limit = limit;
+            // A declared length over the limit fails the first read
+            this.remaining = contentLength > limit ? -1 : limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            count(0);
+            int b = delegate.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(@NonNull byte[] b, int off, int len) throws IOException {
+            count(0);
+            // Reading one byte past the limit is enough to tell the body is too large
+            int count = delegate.read(b, off, (int) Math.min(len, remaining + 1));
+            if (count > 0) {
+                count(count);
+            }
+            return count;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        private void count(int count) throws RequestBodyTooLargeException {
+            remaining -= count;
+            if (remaining < 0) {
+                throw new RequestBodyTooLargeException(limit);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.kamatos.codegenvalidationdemo.config;
+
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+
+/**
+ * Reads streamed request bodies, declared as binary {@link Resource} in the spec, without buffering them. The
+ * default resource converter copies such bodies into a byte array and the JSON converter would try to bind them.
+ * Writing is left to the default converters.
+ */
+public class StreamingResourceHttpMessageConverter extends AbstractHttpMessageConverter<Resource> {
+
+    public StreamingResourceHttpMessageConverter() {
+        super(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(@NonNull Class<?> clazz) {
+        return Resource.class == clazz || InputStreamResource.class == clazz;
+    }
+
+    @Override
+    public boolean canWrite(@NonNull Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    @NonNull
+    protected Resource readInternal(@NonNull Class<? extends Resource> clazz, @NonNull HttpInputMessage inputMessage)
+            throws IOException {
+        return new InputStreamResource(inputMessage.getBody());
+    }
+
+    @Override
+    protected void writeInternal(@NonNull Resource resource, @NonNull HttpOutputMessage outputMessage) {
+        throw new UnsupportedOperationException("Resource bodies are written by the default converters");
+    }
+}
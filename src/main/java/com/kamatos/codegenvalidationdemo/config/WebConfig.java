@@ -0,0 +1,24 @@
+package com.kamatos.codegenvalidationdemo.config;
+
+import com.kamatos.codegenvalidationdemo.observability.FirstRequestLatencyInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(@NonNull List<HttpMessageConverter<?>> converters) {
+        converters.addFirst(new StreamingResourceHttpMessageConverter());
+    }
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(new FirstRequestLatencyInterceptor());
+    }
+}
@@ -0,0 +1,82 @@
+package com.kamatos.codegenvalidationdemo.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Formats the API is served in, JSON for web clients and the binary CBOR and Smile encodings of the same documents
+ * for internal callers, which parse and render them at a fraction of the cost.
+ */
+public enum WireFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(new MediaType("application", "x-jackson-smile"));
+
+    private static final WireFormat[] VALUES = values();
+    private static final int MAX_ACCEPT_HEADERS = 256;
+    private static final Map<String, WireFormat> BY_ACCEPT_HEADER = new ConcurrentHashMap<>();
+
+    private final MediaType mediaType;
+
+    WireFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Format of the current request's `Accept` header, JSON outside of a request.
+     */
+    public static WireFormat current() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? negotiate(attributes.getRequest().getHeader(HttpHeaders.ACCEPT))
+                : JSON;
+    }
+
+    /**
+     * The most specific of the accepted media types which is a format, by the same order Spring MVC negotiates
+     * responses in. JSON when no format is accepted. Callers send the same few `Accept` headers, so the outcomes are
+     * cached by header.
+     */
+    public static WireFormat negotiate(String accept) {
+        if (accept == null || accept.isEmpty()) {
+            return JSON;
+        }
+        WireFormat format = BY_ACCEPT_HEADER.get(accept);
+        if (format == null) {
+            format = parse(accept);
+            if (BY_ACCEPT_HEADER.size() < MAX_ACCEPT_HEADERS) {
+                BY_ACCEPT_HEADER.put(accept, format);
+            }
+        }
+        return format;
+    }
+
+    private static WireFormat parse(String accept) {
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(accepted);
+        } catch (IllegalArgumentException e) {
+            // Malformed or too many media types
+            return JSON;
+        }
+        for (MediaType mediaType : accepted) {
+            for (WireFormat format : VALUES) {
+                if (mediaType.isCompatibleWith(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        return JSON;
+    }
+}
@@ -0,0 +1,64 @@
+package com.kamatos.codegenvalidationdemo.controller;
+
+import com.kamatos.codegenvalidationdemo.exception.CustomValidationException;
+import com.kamatos.codegenvalidationdemo.exception.ImmutableValidationError;
+import lombok.experimental.UtilityClass;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Opaque pagination cursor: the id of the last item of a page, as unpadded base64url.
+ */
+@UtilityClass
+public class ItemCursor {
+    public static final String INVALID_CODE = "cursor.invalid";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode(UUID id) {
+        ByteBuffer bytes = ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return ENCODER.encodeToString(bytes.array());
+    }
+
+    /**
+     * Whether the cursor is absent or was produced by {@link #encode(UUID)}.
+     */
+    public boolean isValid(String cursor) {
+        return cursor == null || cursor.isEmpty() || bytes(cursor) != null;
+    }
+
+    /**
+     * Returns the id of the cursor, or `null` for no cursor.
+     *
+     * @throws CustomValidationException when the cursor wasn't produced by {@link #encode(UUID)}
+     */
+    public UUID decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+
+        byte[] bytes = bytes(cursor);
+        if (bytes == null) {
+            throw new CustomValidationException(List.of(
+                    ImmutableValidationError.of(INVALID_CODE, "Cursor is not valid")));
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private byte[] bytes(String cursor) {
+        try {
+            byte[] bytes = DECODER.decode(cursor);
+            return bytes.length == 16 ? bytes : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -1,31 +1,56 @@
 package com.kamatos.codegenvalidationdemo.controller;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kamatos.codegenvalidationdemo.api.ItemsApi;
 import com.kamatos.codegenvalidationdemo.api.model.CreateItemRequest;
 import com.kamatos.codegenvalidationdemo.api.model.ItemResponse;
 import com.kamatos.codegenvalidationdemo.api.model.UpdateItemRequest;
 import com.kamatos.codegenvalidationdemo.api.model.ValidatedUpdateItemRequest;
 import com.kamatos.codegenvalidationdemo.api.model.ValidationError;
+import com.kamatos.codegenvalidationdemo.batch.BatchCreateItemsProcessor;
 import com.kamatos.codegenvalidationdemo.exception.CustomValidationException;
+import com.kamatos.codegenvalidationdemo.repository.Item;
+import com.kamatos.codegenvalidationdemo.repository.ItemRepository;
+import com.kamatos.codegenvalidationdemo.stream.ItemsNdjsonInputStream;
 import com.kamatos.codegenvalidationdemo.validation.ItemsValidatorsRegistrar;
 import com.kamatos.codegenvalidationdemo.validation.NameValidator;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.RestController;
+import com.kamatos.codegenvalidationdemo.validation.constraint.ValidCursor;
 import com.kamatos.codegenvalidationdemo.validation.constraint.ValidEmail;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 
 @RestController
-@RequiredArgsConstructor
 @Slf4j
 public class ItemsController implements ItemsApi {
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
     private final ItemsValidatorsRegistrar validatorsRegistrar;
+    private final BatchCreateItemsProcessor batchCreateItemsProcessor;
+    private final ItemRepository itemRepository;
+    private final JsonFactory jsonFactory;
+
+    public ItemsController(ItemsValidatorsRegistrar validatorsRegistrar,
+                           BatchCreateItemsProcessor batchCreateItemsProcessor, ItemRepository itemRepository,
+                           ObjectMapper objectMapper) {
+        this.validatorsRegistrar = validatorsRegistrar;
+        this.batchCreateItemsProcessor = batchCreateItemsProcessor;
+        this.itemRepository = itemRepository;
+        this.jsonFactory = objectMapper.getFactory();
+    }
 
     @InitBinder
     public void initBinder(WebDataBinder binder) {
@@ -34,12 +59,43 @@ public class ItemsController implements ItemsApi {
 
     @Override
     public ResponseEntity<ItemResponse> createItem(CreateItemRequest createItemRequest) {
-        return ResponseEntity.ok(null);
+        Item item = itemRepository.create(createItemRequest.getName(), createItemRequest.getEmail());
+        return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(item));
+    }
+
+    @Override
+    public ResponseEntity<Resource> createItemsBatch(Resource body) {
+        try {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(new InputStreamResource(batchCreateItemsProcessor.process(body.getInputStream())));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public ResponseEntity<List<ItemResponse>> getItems(@ValidEmail String email, @ValidCursor String cursor,
+                                                       Integer limit) {
+        ItemRepository.Page page = itemRepository.findPage(email, ItemCursor.decode(cursor), limit);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.next() != null) {
+            response.header(NEXT_CURSOR_HEADER, ItemCursor.encode(page.next()));
+        }
+        return response.body(page.items().stream().map(ItemsController::toResponse).toList());
     }
 
     @Override
-    public ResponseEntity<List<ItemResponse>> getItems(@ValidEmail String email) {
-        return ResponseEntity.ok(null);
+    public ResponseEntity<Resource> streamItems(@ValidEmail String email, @ValidCursor String cursor) {
+        try {
+            Iterator<Item> items = itemRepository.iterate(email, ItemCursor.decode(cursor));
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(new InputStreamResource(new ItemsNdjsonInputStream(items, jsonFactory)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @Override
@@ -50,13 +106,21 @@ public class ItemsController implements ItemsApi {
             throw new CustomValidationException(errors);
         }
 
-        return ResponseEntity.ok(null);
+        return update(id, updateItemRequest.getName(), updateItemRequest.getEmail());
     }
 
     @Override
     public ResponseEntity<ItemResponse> validatedUpdateItem(UUID id, ValidatedUpdateItemRequest request) {
-        return ResponseEntity.ok(null);
+        return update(id, request.getName(), request.getEmail());
     }
 
+    private ResponseEntity<ItemResponse> update(UUID id, String name, String email) {
+        return itemRepository.update(id, name, email)
+                .map(item -> ResponseEntity.ok(toResponse(item)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
 
+    private static ItemResponse toResponse(Item item) {
+        return new ItemResponse().id(item.id()).name(item.name()).email(item.email());
+    }
 }
@@ -5,11 +5,16 @@ import lombok.Getter;
 
 import java.util.List;
 
+/**
+ * Thrown for expected client errors, so the stack trace is never captured: it is costly on every bad request and
+ * carries no information the error codes don't already give.
+ */
 @Getter
 public class CustomValidationException extends RuntimeException {
     private final List<ValidationError> errors;
 
     public CustomValidationException(List<ValidationError> errors) {
+        super(null, null, false, false);
         this.errors = errors;
     }
 }
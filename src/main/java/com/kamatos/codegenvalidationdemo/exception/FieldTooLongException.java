@@ -0,0 +1,32 @@
+package com.kamatos.codegenvalidationdemo.exception;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.kamatos.codegenvalidationdemo.api.model.ValidationError;
+
+/**
+ * Thrown while a body is parsed, as soon as a string value is longer than the `maxLength` of its property, before the
+ * value is turned into a string. Reported like the schema validators report the violation, as `Size.<property>`.
+ */
+public class FieldTooLongException extends JsonMappingException {
+    private final String property;
+    private final int min;
+    private final int max;
+
+    public FieldTooLongException(JsonParser parser, String property, int min, int max) {
+        super(parser, "Value of " + property + " exceeds " + max + " characters");
+        this.property = property;
+        this.min = min;
+        this.max = max;
+    }
+
+    public ValidationError toValidationError() {
+        return new ParameterizedValidationError("Size." + property, "size must be between " + min + " and " + max,
+                new Object[]{property, max, min});
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,47 @@
+package com.kamatos.codegenvalidationdemo.exception;
+
+import com.kamatos.codegenvalidationdemo.api.model.ValidationError;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Validation error which can be shared between requests, e.g. for the constant errors of custom business rules.
+ */
+public final class ImmutableValidationError extends ValidationError {
+    private static final Map<String, ImmutableValidationError> INTERNED = new ConcurrentHashMap<>();
+
+    public ImmutableValidationError(String code, String message) {
+        super.setCode(code);
+        super.setMessage(message);
+    }
+
+    /**
+     * Returns the shared instance for the given code. Codes map to a single message, a different message for an
+     * already known code gets its own, not interned, instance.
+     */
+    public static ImmutableValidationError of(String code, String message) {
+        ImmutableValidationError error = INTERNED.computeIfAbsent(code, c -> new ImmutableValidationError(c, message));
+        return message.equals(error.getMessage()) ? error : new ImmutableValidationError(code, message);
+    }
+
+    @Override
+    public ValidationError code(String code) {
+        throw new UnsupportedOperationException("Shared validation error cannot be modified");
+    }
+
+    @Override
+    public void setCode(String code) {
+        throw new UnsupportedOperationException("Shared validation error cannot be modified");
+    }
+
+    @Override
+    public ValidationError message(String message) {
+        throw new UnsupportedOperationException("Shared validation error cannot be modified");
+    }
+
+    @Override
+    public void setMessage(String message) {
+        throw new UnsupportedOperationException("Shared validation error cannot be modified");
+    }
+}
@@ -0,0 +1,25 @@
+package com.kamatos.codegenvalidationdemo.exception;
+
+import com.kamatos.codegenvalidationdemo.api.model.ValidationError;
+
+/**
+ * Validation error keeping the arguments of its message, so the catalog can put them into the localized message,
+ * e.g. the limits of a `Size` constraint. Arguments are ordered like those of Spring's field errors: the field first,
+ * then the attributes of the constraint by name, for `Size` `{0}` field, `{1}` max and `{2}` min.
+ */
+public class ParameterizedValidationError extends ValidationError {
+    private final Object[] arguments;
+
+    public ParameterizedValidationError(String code, String message, Object[] arguments) {
+        setCode(code);
+        setMessage(message);
+        this.arguments = arguments;
+    }
+
+    /**
+     * Arguments of the message, not part of the response.
+     */
+    public Object[] arguments() {
+        return arguments;
+    }
+}
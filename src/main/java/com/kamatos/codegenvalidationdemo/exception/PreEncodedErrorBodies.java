@@ -0,0 +1,85 @@
+package com.kamatos.codegenvalidationdemo.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.kamatos.codegenvalidationdemo.api.model.ValidationError;
+import com.kamatos.codegenvalidationdemo.api.model.ValidationErrorResponse;
+import com.kamatos.codegenvalidationdemo.config.WireFormat;
+import com.kamatos.codegenvalidationdemo.validation.NameValidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of encoded {@link ValidationErrorResponse} bodies keyed by the list of errors, per {@link WireFormat}. Bad
+ * requests repeat the same few error combinations, so after the first occurrence the handler writes the cached bytes
+ * without going through Jackson again. The caches are bounded, combinations beyond the limit are encoded on every
+ * call.
+ */
+@Component
+public class PreEncodedErrorBodies {
+    static final int MAX_ENTRIES = 1024;
+
+    private final Map<WireFormat, Encoder> encoders = new EnumMap<>(WireFormat.class);
+    private final boolean enabled;
+
+    public PreEncodedErrorBodies(ObjectMapper objectMapper, MappingJackson2CborHttpMessageConverter cborConverter,
+                                 MappingJackson2SmileHttpMessageConverter smileConverter,
+                                 @Value("${validation.errors.pre-encoded:true}") boolean enabled) {
+        encoders.put(WireFormat.JSON, new Encoder(objectMapper));
+        encoders.put(WireFormat.CBOR, new Encoder(cborConverter.getObjectMapper()));
+        encoders.put(WireFormat.SMILE, new Encoder(smileConverter.getObjectMapper()));
+        this.enabled = enabled;
+
+        if (enabled) {
+            encode(List.of(NameValidator.NAME_NON_TEST), WireFormat.JSON);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public byte[] encode(List<ValidationError> errors, WireFormat format) {
+        return encoders.get(format).encode(errors);
+    }
+
+    private static final class Encoder {
+        private final ObjectWriter writer;
+        private final Map<List<ValidationError>, byte[]> bodies = new ConcurrentHashMap<>();
+
+        Encoder(ObjectMapper objectMapper) {
+            this.writer = objectMapper.writerFor(ValidationErrorResponse.class);
+        }
+
+        byte[] encode(List<ValidationError> errors) {
+            byte[] body = bodies.get(errors);
+            if (body != null) {
+                return body;
+            }
+
+            List<ValidationError> key = List.copyOf(errors);
+            body = write(key);
+            if (bodies.size() < MAX_ENTRIES) {
+                bodies.putIfAbsent(key, body);
+            }
+            return body;
+        }
+
+        private byte[] write(List<ValidationError> errors) {
+            try {
+                return writer.writeValueAsBytes(new ValidationErrorResponse().errors(errors));
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.kamatos.codegenvalidationdemo.exception;
+
+import com.kamatos.codegenvalidationdemo.api.model.ValidationError;
+
+import java.io.IOException;
+
+/**
+ * Thrown by the body stream once more bytes than the limit of the endpoint have been read. An {@link IOException},
+ * so it passes through the message converters like any other read failure.
+ */
+public class RequestBodyTooLargeException extends IOException {
+    public static final String CODE = "request.body.too_large";
+
+    private final long limit;
+
+    public RequestBodyTooLargeException(long limit) {
+        super("Request body exceeds " + limit + " bytes");
+        this.limit = limit;
+    }
+
+    public ValidationError toValidationError() {
+        return new ParameterizedValidationError(CODE, getMessage(), new Object[]{limit});
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
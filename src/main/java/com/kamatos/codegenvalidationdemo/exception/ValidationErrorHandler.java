@@ -1,82 +1,108 @@
 package com.kamatos.codegenvalidationdemo.exception;
 
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
 import com.kamatos.codegenvalidationdemo.api.model.ValidationError;
 import com.kamatos.codegenvalidationdemo.api.model.ValidationErrorResponse;
+import com.kamatos.codegenvalidationdemo.config.RequestLimits;
+import com.kamatos.codegenvalidationdemo.config.WireFormat;
+import com.kamatos.codegenvalidationdemo.observability.Endpoint;
+import com.kamatos.codegenvalidationdemo.observability.ErrorRenderingEvent;
+import com.kamatos.codegenvalidationdemo.observability.ValidationMetrics;
+import com.kamatos.codegenvalidationdemo.i18n.ErrorMessageCatalog;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.MessageSourceResolvable;
-import org.springframework.http.HttpStatus;
-import org.springframework.validation.BindingResult;
-import org.springframework.validation.FieldError;
-import org.springframework.validation.ObjectError;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
-import java.util.Objects;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.kamatos.codegenvalidationdemo.exception.ValidationErrorMapper.buildParameterValidationErrors;
+import static com.kamatos.codegenvalidationdemo.exception.ValidationErrorMapper.buildValidationErrors;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 @Slf4j
 public class ValidationErrorHandler {
+    public static final ValidationError LIMIT_EXCEEDED = ImmutableValidationError.of("request.limit_exceeded",
+            "Request body exceeds the length limit of a string, property name or number, or the nesting limit");
+
+    private final PreEncodedErrorBodies preEncodedErrorBodies;
+    private final ValidationMetrics validationMetrics;
+    private final ErrorMessageCatalog errorMessageCatalog;
 
     @ExceptionHandler(CustomValidationException.class)
-    @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public ValidationErrorResponse handleCustomValidationException(CustomValidationException ex) {
-        ValidationErrorResponse response = new ValidationErrorResponse();
-        response.setErrors(ex.getErrors());
-        return response;
+    public ResponseEntity<?> handleCustomValidationException(CustomValidationException ex) {
+        return render("handleCustomValidationException", ex::getErrors);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public ValidationErrorResponse handleMethodArgumentException(MethodArgumentNotValidException ex) {
-        return buildValidationResponse(ex.getBindingResult());
+    public ResponseEntity<?> handleMethodArgumentException(MethodArgumentNotValidException ex) {
+        return render("handleMethodArgumentException", () -> buildValidationErrors(ex.getBindingResult()));
     }
 
     @ExceptionHandler(HandlerMethodValidationException.class)
-    @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public ValidationErrorResponse handleMethodValidationException(HandlerMethodValidationException ex) {
-        ValidationErrorResponse response = new ValidationErrorResponse();
-
-        ex.getParameterValidationResults().forEach(validationResult -> {
-            validationResult.getResolvableErrors().forEach(error -> {
-                ValidationError validationError = new ValidationError()
-                        .code(buildErrorCodeFromResolvable(error))
-                        .message(error.getDefaultMessage());
-                response.addErrorsItem(validationError);
-            });
-        });
+    public ResponseEntity<?> handleMethodValidationException(HandlerMethodValidationException ex) {
+        return render("handleMethodValidationException", () -> buildParameterValidationErrors(ex));
+    }
 
-        return response;
+    /**
+     * Renders bodies rejected by the {@link RequestLimits} while they were read. Any other unreadable body is left to
+     * the default handling, by rethrowing.
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<?> handleMessageNotReadable(HttpMessageNotReadableException ex) {
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof RequestBodyTooLargeException tooLarge) {
+                return render("handleMessageNotReadable", () -> List.of(tooLarge.toValidationError()));
+            }
+            if (cause instanceof FieldTooLongException tooLong) {
+                return render("handleMessageNotReadable", () -> List.of(tooLong.toValidationError()));
+            }
+            if (cause instanceof StreamConstraintsException) {
+                return render("handleMessageNotReadable", () -> List.of(LIMIT_EXCEEDED));
+            }
+        }
+        throw ex;
     }
 
     /*
-    To return field error codes in form of <constraint_code>.<field_name> in order to have simple and determined
-    validation response for FE.
+    Builds the errors, localized to the locale of the request, and the response, emitting an ErrorRenderingEvent and,
+    when enabled, recording the time of the handler and the reported error codes.
      */
-    private ValidationErrorResponse buildValidationResponse(BindingResult bindingResult) {
-        ValidationErrorResponse response = new ValidationErrorResponse();
+    private ResponseEntity<?> render(String handler, Supplier<List<ValidationError>> errorsSupplier) {
+        ErrorRenderingEvent event = new ErrorRenderingEvent();
+        event.begin();
+        long start = validationMetrics.isEnabled() ? System.nanoTime() : 0;
 
-        bindingResult.getAllErrors().stream()
-                .map(error -> new ValidationError().code(buildErrorCode(error)).message(error.getDefaultMessage()))
-                .forEach(response::addErrorsItem);
+        List<ValidationError> errors = errorMessageCatalog.localize(errorsSupplier.get(), LocaleContextHolder.getLocale());
+        ResponseEntity<?> response = badRequest(errors);
 
+        if (validationMetrics.isEnabled()) {
+            Endpoint endpoint = Endpoint.current();
+            validationMetrics.recordErrorRendering(handler, endpoint, System.nanoTime() - start);
+            validationMetrics.recordErrors(errors, endpoint);
+        }
+        event.complete(handler, errors.size());
         return response;
     }
 
-    private String buildErrorCodeFromResolvable(MessageSourceResolvable error) {
-        if (Objects.requireNonNull(error) instanceof FieldError fieldError) {
-            return buildErrorCode(fieldError);
+    /*
+    Bodies are written as pre-encoded bytes of the format the request accepts unless the fast error mode is disabled,
+    in which case the response goes through the regular message conversion.
+     */
+    private ResponseEntity<?> badRequest(List<ValidationError> errors) {
+        if (preEncodedErrorBodies.isEnabled()) {
+            WireFormat format = WireFormat.current();
+            return ResponseEntity.badRequest()
+                    .contentType(format.mediaType())
+                    .body(preEncodedErrorBodies.encode(errors, format));
         }
-        return error.getDefaultMessage();
-    }
-
-
-    private String buildErrorCode(ObjectError error) {
-        return switch (error) {
-            case FieldError fe -> fe.getCode() + "." + fe.getField();
-            default -> error.getCode();
-        };
+        return ResponseEntity.badRequest().body(new ValidationErrorResponse().errors(errors));
     }
 }
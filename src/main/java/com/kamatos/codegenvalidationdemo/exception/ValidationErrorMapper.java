@@ -0,0 +1,80 @@
+package com.kamatos.codegenvalidationdemo.exception;
+
+import com.kamatos.codegenvalidationdemo.api.model.ValidationError;
+import jakarta.validation.ConstraintViolation;
+import lombok.experimental.UtilityClass;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.validation.method.MethodValidationResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps Spring validation errors to API {@link ValidationError}s.
+ */
+@UtilityClass
+public final class ValidationErrorMapper {
+
+    /*
+    To return field error codes in form of <constraint_code>.<field_name> in order to have simple and determined
+    validation response for FE.
+     */
+    public static List<ValidationError> buildValidationErrors(BindingResult bindingResult) {
+        List<ObjectError> allErrors = bindingResult.getAllErrors();
+        List<ValidationError> errors = new ArrayList<>(allErrors.size());
+
+        for (ObjectError error : allErrors) {
+            errors.add(buildValidationError(buildErrorCode(error), error));
+        }
+
+        return errors;
+    }
+
+    public static List<ValidationError> buildParameterValidationErrors(MethodValidationResult methodValidationResult) {
+        List<ValidationError> errors = new ArrayList<>();
+
+        methodValidationResult.getParameterValidationResults().forEach(validationResult -> {
+            String parameterName = validationResult.getMethodParameter().getParameterName();
+            for (MessageSourceResolvable error : validationResult.getResolvableErrors()) {
+                errors.add(buildValidationError(buildParameterErrorCode(
+                        validationResult.unwrap(error, ConstraintViolation.class), parameterName), error));
+            }
+        });
+
+        return errors;
+    }
+
+    /*
+    Errors with message arguments, e.g. the limits of `Size`, keep them for the localized message.
+     */
+    private static ValidationError buildValidationError(String code, MessageSourceResolvable error) {
+        Object[] arguments = error.getArguments();
+        if (arguments != null && arguments.length > 0) {
+            return new ParameterizedValidationError(code, error.getDefaultMessage(), arguments);
+        }
+        return new ValidationError().code(code).message(error.getDefaultMessage());
+    }
+
+    /*
+    Codes of parameter violations are taken from the message template instead of the interpolated, localized message:
+    custom constraints use the code as template, built-in ones are reported as <constraint>.<parameter_name>, the same
+    way field errors are.
+     */
+    public static String buildParameterErrorCode(ConstraintViolation<?> violation, String parameterName) {
+        String template = violation.getMessageTemplate();
+        if (template.indexOf('{') < 0) {
+            return template;
+        }
+        return violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName() + "." + parameterName;
+    }
+
+    public static String buildErrorCode(ObjectError error) {
+        return switch (error) {
+            case FieldError fe -> fe.getCode() + "." + fe.getField();
+            default -> error.getCode();
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package com.kamatos.codegenvalidationdemo.i18n;
+
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Message interpolator answering from a cache, instead of parsing and interpolating the template for every violation.
+ * Templates which are codes of the {@link ErrorMessageCatalog}, plain (`email.invalid`) or in braces
+ * (`{email.invalid}`), resolve to the catalog message of the locale, others are interpolated by the delegate. Either
+ * way the message is resolved once per template, constraint and locale. Only templates with expressions (`${…}`),
+ * whose outcome may depend on the validated value, are resolved every time. Locales are narrowed to the supported
+ * ones first, which keeps the cache bounded by the number of constraints.
+ */
+public class CachingMessageInterpolator implements MessageInterpolator {
+    static final int MAX_ENTRIES = 4096;
+
+    private final MessageInterpolator delegate;
+    private final ErrorMessageCatalog errorMessageCatalog;
+    private final Map<Key, String> messages = new ConcurrentHashMap<>();
+
+    public CachingMessageInterpolator(MessageInterpolator delegate, ErrorMessageCatalog errorMessageCatalog) {
+        this.delegate = delegate;
+        this.errorMessageCatalog = errorMessageCatalog;
+    }
+
+    @Override
+    public String interpolate(String messageTemplate, Context context) {
+        return interpolate(messageTemplate, context, Locale.getDefault());
+    }
+
+    @Override
+    public String interpolate(String messageTemplate, Context context, Locale locale) {
+        Locale supported = errorMessageCatalog.resolve(locale);
+        if (messageTemplate.contains("${")) {
+            return resolve(messageTemplate, context, supported);
+        }
+
+        Key key = new Key(messageTemplate, context.getConstraintDescriptor(), supported);
+        String message = messages.get(key);
+        if (message == null) {
+            message = resolve(messageTemplate, context, supported);
+            if (messages.size() < MAX_ENTRIES) {
+                messages.putIfAbsent(key, message);
+            }
+        }
+        return message;
+    }
+
+    private String resolve(String messageTemplate, Context context, Locale locale) {
+        String message = errorMessageCatalog.message(code(messageTemplate), locale);
+        return message != null ? message : delegate.interpolate(messageTemplate, context, locale);
+    }
+
+    private static String code(String messageTemplate) {
+        int length = messageTemplate.length();
+        if (length > 2 && messageTemplate.charAt(0) == '{' && messageTemplate.charAt(length - 1) == '}') {
+            return messageTemplate.substring(1, length - 1);
+        }
+        return messageTemplate;
+    }
+
+    private record Key(String messageTemplate, ConstraintDescriptor<?> constraintDescriptor, Locale locale) {
+    }
+}
@@ -0,0 +1,184 @@
+package com.kamatos.codegenvalidationdemo.i18n;
+
+import com.kamatos.codegenvalidationdemo.api.model.ValidationError;
+import com.kamatos.codegenvalidationdemo.exception.ImmutableValidationError;
+import com.kamatos.codegenvalidationdemo.exception.ParameterizedValidationError;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Localized messages of the API error codes, from the `validation-messages` bundle. All messages of the supported
+ * locales (`validation.messages.locales`, the first one being the default) are resolved at startup into shared
+ * {@link ValidationError}s, so localizing an error costs a map lookup. Requested locales resolve to the supported
+ * locale of the same language, or the default.
+ * <p>
+ * Messages with `{n}` placeholders are templates for {@link ParameterizedValidationError}s, filled with the arguments
+ * of the error, e.g. `Size.name=size must be between {2} and {1}`. Errors without arguments keep their own message.
+ */
+@Component
+public class ErrorMessageCatalog {
+    static final String BUNDLE = "validation-messages";
+
+    private final List<Locale> locales;
+    private final Locale defaultLocale;
+    private final Map<String, Locale> localesByLanguage = new HashMap<>();
+    private final Map<Locale, Map<String, ValidationError>> errorsByLocale = new HashMap<>();
+    private final Map<Locale, Map<String, MessageTemplate>> templatesByLocale = new HashMap<>();
+
+    public ErrorMessageCatalog(@Value("${validation.messages.locales:en,de}") List<Locale> locales) {
+        this.locales = List.copyOf(locales);
+        this.defaultLocale = locales.getFirst();
+
+        Properties base = load(BUNDLE + ".properties");
+        for (Locale locale : locales) {
+            Properties messages = new Properties();
+            messages.putAll(base);
+            messages.putAll(load(BUNDLE + "_" + locale.getLanguage() + ".properties"));
+
+            Map<String, ValidationError> errors = new HashMap<>();
+            Map<String, MessageTemplate> templates = new HashMap<>();
+            messages.forEach((code, message) -> {
+                MessageTemplate template = MessageTemplate.parse((String) message);
+                if (template != null) {
+                    templates.put((String) code, template);
+                } else {
+                    errors.put((String) code, new ImmutableValidationError((String) code, (String) message));
+                }
+            });
+            errorsByLocale.put(locale, Map.copyOf(errors));
+            templatesByLocale.put(locale, Map.copyOf(templates));
+            localesByLanguage.put(locale.getLanguage(), locale);
+        }
+    }
+
+    /**
+     * Supported locales, the default one first.
+     */
+    public List<Locale> locales() {
+        return locales;
+    }
+
+    /**
+     * Supported locale of the language of the given one, or the default locale.
+     */
+    public Locale resolve(Locale locale) {
+        return locale == null ? defaultLocale : localesByLanguage.getOrDefault(locale.getLanguage(), defaultLocale);
+    }
+
+    /**
+     * Message of the code in the given locale, `null` for codes without a message or with a template.
+     */
+    public String message(String code, Locale locale) {
+        ValidationError error = errorsByLocale.get(resolve(locale)).get(code);
+        return error != null ? error.getMessage() : null;
+    }
+
+    /**
+     * Replaces the errors with a message in the given locale by their shared, localized instance. Returns the given
+     * list when no error has a message.
+     */
+    public List<ValidationError> localize(List<ValidationError> errors, Locale locale) {
+        Locale supported = resolve(locale);
+        Map<String, ValidationError> localized = errorsByLocale.get(supported);
+        Map<String, MessageTemplate> templates = templatesByLocale.get(supported);
+
+        List<ValidationError> result = null;
+        for (int i = 0; i < errors.size(); i++) {
+            ValidationError error = errors.get(i);
+            ValidationError replacement = localized.get(error.getCode());
+            if (replacement == null && error instanceof ParameterizedValidationError parameterized) {
+                replacement = format(parameterized, templates.get(error.getCode()));
+            }
+            if (replacement != null && !replacement.getMessage().equals(error.getMessage())) {
+                if (result == null) {
+                    result = new ArrayList<>(errors);
+                }
+                result.set(i, replacement);
+            }
+        }
+        return result != null ? result : errors;
+    }
+
+    private static ValidationError format(ParameterizedValidationError error, MessageTemplate template) {
+        if (template == null || error.arguments() == null) {
+            return null;
+        }
+        return new ParameterizedValidationError(error.getCode(), template.format(error.arguments()), error.arguments());
+    }
+
+    private static Properties load(String name) {
+        Resource resource = new ClassPathResource(name);
+        if (!resource.exists()) {
+            return new Properties();
+        }
+        try {
+            return PropertiesLoaderUtils.loadProperties(new EncodedResource(resource, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load " + name, e);
+        }
+    }
+
+    /*
+    Message split at its `{n}` placeholders. Arguments are rendered as plain strings, resolvables (the field of Spring's
+    errors) by their default message.
+     */
+    private record MessageTemplate(String[] literals, int[] indexes) {
+
+        static MessageTemplate parse(String message) {
+            List<String> literals = new ArrayList<>();
+            List<Integer> indexes = new ArrayList<>();
+            int start = 0;
+            int open = message.indexOf('{');
+            while (open >= 0) {
+                int close = message.indexOf('}', open);
+                if (close < 0) {
+                    break;
+                }
+                String index = message.substring(open + 1, close);
+                if (!index.isEmpty() && index.chars().allMatch(Character::isDigit)) {
+                    literals.add(message.substring(start, open));
+                    indexes.add(Integer.parseInt(index));
+                    start = close + 1;
+                }
+                open = message.indexOf('{', close);
+            }
+            if (indexes.isEmpty()) {
+                return null;
+            }
+            literals.add(message.substring(start));
+            return new MessageTemplate(literals.toArray(String[]::new),
+                    indexes.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        String format(Object[] arguments) {
+            StringBuilder message = new StringBuilder(64);
+            for (int i = 0; i < indexes.length; i++) {
+                message.append(literals[i]);
+                int index = indexes[i];
+                if (index < arguments.length) {
+                    Object argument = arguments[index];
+                    message.append(argument instanceof MessageSourceResolvable resolvable
+                            ? resolvable.getDefaultMessage() : argument);
+                } else {
+                    message.append('{').append(index).append('}');
+                }
+            }
+            return message.append(literals[indexes.length]).toString();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.kamatos.codegenvalidationdemo.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.kamatos.codegenvalidationdemo.Binding")
+@Label("Binding")
+@Category({"Codegen Validation Demo", "Validation"})
+@Description("Reading and conversion of a request body")
+@StackTrace(false)
+public class BindingEvent extends Event {
+
+    @Label("Model")
+    String model;
+
+    @Label("Endpoint")
+    String endpoint;
+
+    /**
+     * Ends the event and commits it, if a recording is interested in it. Otherwise nothing is resolved.
+     */
+    public void complete(String model) {
+        if (shouldCommit()) {
+            this.model = model;
+            this.endpoint = Endpoint.current().toString();
+            commit();
+        }
+    }
+}
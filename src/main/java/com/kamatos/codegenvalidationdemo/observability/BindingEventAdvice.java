@@ -0,0 +1,55 @@
+package com.kamatos.codegenvalidationdemo.observability;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+
+/**
+ * Emits a {@link BindingEvent} spanning the read and conversion of each `@RequestBody`. The event is only created when
+ * a recording has it enabled.
+ */
+@ControllerAdvice
+public class BindingEventAdvice extends RequestBodyAdviceAdapter {
+    private static final String EVENT_ATTRIBUTE = BindingEvent.class.getName();
+
+    @Override
+    public boolean supports(@NonNull MethodParameter methodParameter, @NonNull Type targetType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    @NonNull
+    public HttpInputMessage beforeBodyRead(@NonNull HttpInputMessage inputMessage, @NonNull MethodParameter parameter,
+                                           @NonNull Type targetType,
+                                           @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        BindingEvent event = new BindingEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            RequestContextHolder.currentRequestAttributes()
+                    .setAttribute(EVENT_ATTRIBUTE, event, RequestAttributes.SCOPE_REQUEST);
+        }
+        return inputMessage;
+    }
+
+    @Override
+    @NonNull
+    public Object afterBodyRead(@NonNull Object body, @NonNull HttpInputMessage inputMessage,
+                                @NonNull MethodParameter parameter, @NonNull Type targetType,
+                                @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(EVENT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof BindingEvent event) {
+            attributes.removeAttribute(EVENT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            event.complete(parameter.getParameterType().getSimpleName());
+        }
+        return body;
+    }
+}
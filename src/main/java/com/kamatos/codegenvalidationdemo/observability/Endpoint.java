@@ -0,0 +1,42 @@
+package com.kamatos.codegenvalidationdemo.observability;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Endpoint of the request handled by the current thread, as HTTP method and matched URI pattern, e.g.
+ * `POST /api/items`. Validation outside of a request, e.g. on another thread, reports {@link #NONE}. Instances are
+ * shared per method and pattern, so resolving the endpoint of a request doesn't allocate.
+ */
+public record Endpoint(String method, String uri) {
+    public static final Endpoint NONE = new Endpoint("NONE", "none");
+
+    private static final Map<String, Map<String, Endpoint>> ENDPOINTS = new ConcurrentHashMap<>();
+
+    public static Endpoint of(String method, String uri) {
+        return ENDPOINTS.computeIfAbsent(uri, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, key -> new Endpoint(method, uri));
+    }
+
+    public static Endpoint current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            if (request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String uri) {
+                return of(request.getMethod(), uri);
+            }
+        }
+        return NONE;
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + uri;
+    }
+}
@@ -0,0 +1,37 @@
+package com.kamatos.codegenvalidationdemo.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.kamatos.codegenvalidationdemo.ErrorRendering")
+@Label("Error Rendering")
+@Category({"Codegen Validation Demo", "Validation"})
+@Description("Building of a validation error response")
+@StackTrace(false)
+public class ErrorRenderingEvent extends Event {
+
+    @Label("Handler")
+    String handler;
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Errors")
+    int errorCount;
+
+    /**
+     * Ends the event and commits it, if a recording is interested in it. Otherwise nothing is resolved.
+     */
+    public void complete(String handler, int errorCount) {
+        if (shouldCommit()) {
+            this.handler = handler;
+            this.endpoint = Endpoint.current().toString();
+            this.errorCount = errorCount;
+            commit();
+        }
+    }
+}
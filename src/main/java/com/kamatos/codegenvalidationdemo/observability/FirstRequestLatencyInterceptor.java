@@ -0,0 +1,44 @@
+package com.kamatos.codegenvalidationdemo.observability;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logs the time of the first request to every handler method, from the handler lookup until the response is written,
+ * to show what the first client of an operation waits for, with or without the `WarmUp`. Later requests cost a set
+ * lookup.
+ */
+@Slf4j
+public class FirstRequestLatencyInterceptor implements HandlerInterceptor {
+    private static final String START_ATTRIBUTE = FirstRequestLatencyInterceptor.class.getName() + ".start";
+
+    private final Set<HandlerMethod> served = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod && !served.contains(handlerMethod)) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        if (request.getAttribute(START_ATTRIBUTE) instanceof Long start
+                && handler instanceof HandlerMethod handlerMethod && served.add(handlerMethod)) {
+            log.info("First request to {} ({} {}) took {} us, status {}", handlerMethod.getMethod().getName(),
+                    request.getMethod(), request.getRequestURI(),
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start), response.getStatus());
+        }
+    }
+}
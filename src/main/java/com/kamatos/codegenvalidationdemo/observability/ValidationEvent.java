@@ -0,0 +1,37 @@
+package com.kamatos.codegenvalidationdemo.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.kamatos.codegenvalidationdemo.Validation")
+@Label("Validation")
+@Category({"Codegen Validation Demo", "Validation"})
+@Description("Validation of a request model by its validator chain")
+@StackTrace(false)
+public class ValidationEvent extends Event {
+
+    @Label("Target")
+    String target;
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Errors")
+    int errorCount;
+
+    /**
+     * Ends the event and commits it, if a recording is interested in it. Otherwise nothing is resolved.
+     */
+    public void complete(String target, int errorCount) {
+        if (shouldCommit()) {
+            this.target = target;
+            this.endpoint = Endpoint.current().toString();
+            this.errorCount = errorCount;
+            commit();
+        }
+    }
+}
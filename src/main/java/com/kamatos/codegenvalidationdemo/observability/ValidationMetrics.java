@@ -0,0 +1,143 @@
+package com.kamatos.codegenvalidationdemo.observability;
+
+import com.kamatos.codegenvalidationdemo.api.model.ValidationError;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters of the validation layer, tagged by validator class, endpoint and error code:
+ * <ul>
+ *     <li>`validation.chain`: time of the validator chain of a request model</li>
+ *     <li>`validation.validator`: time of a single validator of a chain</li>
+ *     <li>`validation.constraint`: time of a custom constraint validator</li>
+ *     <li>`validation.error.rendering`: time to build a 400 response, per exception handler</li>
+ *     <li>`validation.errors`: number of reported errors, per `&lt;constraint&gt;.&lt;field&gt;` code</li>
+ * </ul>
+ * Meters are registered once and looked up by their tags afterwards. The timers of the validators, which run on
+ * every request, are handed out once per endpoint instead ({@link #chainTimers}, {@link #constraintTimer}), so their
+ * callers record without a lookup. Callers check {@link #isEnabled()} before measuring anything, so with
+ * `validation.metrics.enabled=false` the validation path is the uninstrumented one.
+ */
+@Component
+public class ValidationMetrics {
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Counter> counters = new ConcurrentHashMap<>();
+
+    public ValidationMetrics(MeterRegistry meterRegistry,
+                             @Value("${validation.metrics.enabled:false}") boolean enabled) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    public static ValidationMetrics disabled() {
+        return new ValidationMetrics(new SimpleMeterRegistry(), false);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Timers of a validator chain on the given endpoint: of the whole chain and of each of its validators, in the
+     * given order. The async validators are returned wrapped, so they record their time on the threads they run on.
+     */
+    public ChainTimers chainTimers(Class<?> target, Validator[] validators, Validator[] asyncValidators,
+                                   Endpoint endpoint) {
+        Timer[] validatorTimers = new Timer[validators.length];
+        for (int i = 0; i < validators.length; i++) {
+            validatorTimers[i] = validatorTimer(validators[i], endpoint);
+        }
+        Validator[] timedAsyncValidators = new Validator[asyncValidators.length];
+        for (int i = 0; i < asyncValidators.length; i++) {
+            timedAsyncValidators[i] = new TimedValidator(asyncValidators[i],
+                    validatorTimer(asyncValidators[i], endpoint));
+        }
+        return new ChainTimers(timer("validation.chain", "target", nameOf(target), endpoint), validatorTimers,
+                timedAsyncValidators);
+    }
+
+    public Timer constraintTimer(Class<?> validator, Endpoint endpoint) {
+        return timer("validation.constraint", "validator", nameOf(validator), endpoint);
+    }
+
+    public void recordErrorRendering(String handler, Endpoint endpoint, long nanos) {
+        timer("validation.error.rendering", "handler", handler, endpoint).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordErrors(List<ValidationError> errors, Endpoint endpoint) {
+        for (ValidationError error : errors) {
+            counters.computeIfAbsent(new MeterKey("validation.errors", "code", error.getCode(), endpoint),
+                    key -> Counter.builder(key.name())
+                            .description("Validation errors reported to clients")
+                            .tags(key.tagKey(), key.tagValue(), "method", endpoint.method(), "uri", endpoint.uri())
+                            .register(meterRegistry))
+                    .increment();
+        }
+    }
+
+    private Timer timer(String name, String tagKey, String tagValue, Endpoint endpoint) {
+        return timers.computeIfAbsent(new MeterKey(name, tagKey, tagValue, endpoint),
+                key -> Timer.builder(key.name())
+                        .tags(key.tagKey(), key.tagValue(), "method", endpoint.method(), "uri", endpoint.uri())
+                        .register(meterRegistry));
+    }
+
+    private Timer validatorTimer(Validator validator, Endpoint endpoint) {
+        return timer("validation.validator", "validator", nameOf(validator.getClass()), endpoint);
+    }
+
+    private static String nameOf(Class<?> type) {
+        String name = type.getSimpleName();
+        return name.isEmpty() ? type.getName() : name;
+    }
+
+    /**
+     * @param chain                time of the whole chain
+     * @param validators           time of each validator of the chain
+     * @param timedAsyncValidators async validators of the chain, recording their own time
+     */
+    public record ChainTimers(Timer chain, Timer[] validators, Validator[] timedAsyncValidators) {
+    }
+
+    private record MeterKey(String name, String tagKey, String tagValue, Endpoint endpoint) {
+    }
+
+    private static final class TimedValidator implements Validator {
+        private final Validator delegate;
+        private final Timer timer;
+
+        private TimedValidator(Validator delegate, Timer timer) {
+            this.delegate = delegate;
+            this.timer = timer;
+        }
+
+        @Override
+        public boolean supports(@NonNull Class<?> clazz) {
+            return delegate.supports(clazz);
+        }
+
+        @Override
+        public void validate(@NonNull Object target, @NonNull Errors errors) {
+            long start = System.nanoTime();
+            try {
+                delegate.validate(target, errors);
+            } finally {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
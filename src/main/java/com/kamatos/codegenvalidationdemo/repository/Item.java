@@ -0,0 +1,9 @@
+package com.kamatos.codegenvalidationdemo.repository;
+
+import java.util.UUID;
+
+/**
+ * Stored state of an item. Instances are immutable, an update replaces the whole item.
+ */
+public record Item(UUID id, String name, String email) {
+}
@@ -0,0 +1,366 @@
+package com.kamatos.codegenvalidationdemo.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Append-only log of item writes, one JSON encoded {@link Item} per line. The log is split in generations: a
+ * snapshot of generation N holds the state of all writes logged in generations before N, so recovery loads the latest
+ * snapshot and replays the logs from its generation on.
+ * <p>
+ * Lines hold the full item state, replaying one that is already part of a snapshot is harmless. This lets snapshots
+ * be written in the background from the live store: the log switches to a new generation first, then the snapshot
+ * of that generation is written and older files are deleted.
+ * <p>
+ * Appends only hold the write lock to write their line, the item is serialized before. With fsync, an append waits
+ * until its line is forced to disk, and one `force()` covers all lines written until then: appends arriving while a
+ * force is running are committed together by the next one.
+ * <p>
+ * Lines are read and written with a plain mapper of the log, not the one of the requests: request limits and
+ * features must not make lines written earlier unreadable.
+ */
+@Slf4j
+final class ItemLog {
+    private static final Pattern FILE_NAME = Pattern.compile("(items|snapshot)-(\\d+)\\.ndjson");
+    private static final String LOG_PREFIX = "items-";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SUFFIX = ".ndjson";
+    private static final JsonMapper MAPPER = JsonMapper.builder().build();
+
+    private final Path directory;
+    private final ObjectWriter writer = MAPPER.writerFor(Item.class);
+    private final ObjectReader reader = MAPPER.readerFor(Item.class);
+    private final long snapshotInterval;
+    private final boolean fsync;
+    private final Runnable awaitWrites;
+    private final Supplier<Collection<Item>> items;
+    private final ExecutorService snapshotExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("item-snapshot").daemon().factory());
+    private final AtomicBoolean snapshotRunning = new AtomicBoolean();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    // Guarded by the write lock
+    private long generation;
+    private FileChannel channel;
+    private long appendedSinceSnapshot;
+    private long written;
+
+    // Number of the last line forced to disk, guarded by the sync lock
+    private volatile long synced;
+
+    /**
+     * @param awaitWrites returns once all writes which already started, and possibly got logged, are applied to the
+     *                    store
+     * @param items       current items of the store
+     */
+    ItemLog(Path directory, long snapshotInterval, boolean fsync, Runnable awaitWrites,
+            Supplier<Collection<Item>> items) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.snapshotInterval = snapshotInterval;
+        this.fsync = fsync;
+        this.awaitWrites = awaitWrites;
+        this.items = items;
+    }
+
+    /**
+     * Passes the recovered items to the consumer, in the order they were written, and opens a new generation.
+     */
+    void recover(Consumer<Item> consumer) throws IOException {
+        writeLock.lock();
+        try {
+            recoverLocked(consumer);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void recoverLocked(Consumer<Item> consumer) throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(file -> FILE_NAME.matcher(file.getFileName().toString()).matches()).toList();
+        }
+
+        long snapshotGeneration = files.stream()
+                .filter(file -> file.getFileName().toString().startsWith(SNAPSHOT_PREFIX))
+                .mapToLong(ItemLog::generationOf)
+                .max()
+                .orElse(0);
+        long lastGeneration = snapshotGeneration;
+
+        if (snapshotGeneration > 0) {
+            replay(snapshotFile(snapshotGeneration), consumer);
+        }
+        for (Path logFile : files.stream()
+                .filter(file -> file.getFileName().toString().startsWith(LOG_PREFIX))
+                .filter(file -> generationOf(file) >= snapshotGeneration)
+                .sorted((a, b) -> Long.compare(generationOf(a), generationOf(b)))
+                .toList()) {
+            replay(logFile, consumer);
+            lastGeneration = Math.max(lastGeneration, generationOf(logFile));
+        }
+
+        generation = lastGeneration;
+        rotate();
+    }
+
+    /**
+     * Called with the lock of the item held, so the lines of an item are in the order of its writes.
+     */
+    void append(Item item) throws IOException {
+        byte[] json = writer.writeValueAsBytes(item);
+        ByteBuffer line = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+
+        long number;
+        writeLock.lock();
+        try {
+            while (line.hasRemaining()) {
+                channel.write(line);
+            }
+            number = ++written;
+            if (++appendedSinceSnapshot >= snapshotInterval && snapshotRunning.compareAndSet(false, true)) {
+                appendedSinceSnapshot = 0;
+                startSnapshot(rotate());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+
+        if (fsync) {
+            sync(number);
+        }
+    }
+
+    /*
+    Returns once the given line is on disk. The first waiting append forces everything written so far, the others
+    find their line covered when they get the lock.
+     */
+    private void sync(long number) throws IOException {
+        if (synced >= number) {
+            return;
+        }
+
+        syncLock.lock();
+        try {
+            if (synced >= number) {
+                return;
+            }
+
+            long upTo;
+            FileChannel target;
+            writeLock.lock();
+            try {
+                upTo = written;
+                target = channel;
+            } finally {
+                writeLock.unlock();
+            }
+
+            try {
+                target.force(false);
+            } catch (ClosedChannelException e) {
+                // Rotated in the meantime, rotate() forced the channel before closing it
+            }
+            synced = upTo;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void startSnapshot(long snapshotGeneration) {
+        snapshotExecutor.execute(() -> {
+            try {
+                snapshot(snapshotGeneration);
+            } catch (IOException | RuntimeException e) {
+                log.warn("Writing the item snapshot {} failed", snapshotGeneration, e);
+            } finally {
+                snapshotRunning.set(false);
+            }
+        });
+    }
+
+    /**
+     * Waits for a background snapshot in progress, if any.
+     */
+    void awaitSnapshot() throws InterruptedException, ExecutionException {
+        snapshotExecutor.submit(() -> {
+        }).get();
+    }
+
+    /**
+     * Writes a final snapshot, so the next start doesn't need to replay anything.
+     */
+    void close() throws IOException {
+        snapshotExecutor.shutdown();
+        try {
+            snapshotExecutor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        long snapshotGeneration;
+        writeLock.lock();
+        try {
+            snapshotGeneration = rotate();
+        } finally {
+            writeLock.unlock();
+        }
+        snapshot(snapshotGeneration);
+        writeLock.lock();
+        try {
+            channel.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /*
+    Switches to the next generation and returns it. Called with the write lock held.
+     */
+    private long rotate() throws IOException {
+        if (channel != null) {
+            if (fsync) {
+                // Appends waiting for a sync of the old channel find it closed
+                channel.force(false);
+            }
+            channel.close();
+        }
+        generation++;
+        channel = FileChannel.open(logFile(generation),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        return generation;
+    }
+
+    private void snapshot(long snapshotGeneration) throws IOException {
+        // Writes logged in older generations may still be on their way into the store
+        awaitWrites.run();
+
+        Path target = snapshotFile(snapshotGeneration);
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel snapshotChannel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             OutputStream out = new BufferedOutputStream(Channels.newOutputStream(snapshotChannel))) {
+            for (Item item : items.get()) {
+                out.write(writer.writeValueAsBytes(item));
+                out.write('\n');
+            }
+            out.flush();
+            snapshotChannel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        try (Stream<Path> list = Files.list(directory)) {
+            for (Path file : list.toList()) {
+                Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches() && Long.parseLong(matcher.group(2)) < snapshotGeneration) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /*
+    Lines are split on their bytes and each one is decoded by the reader, so a line cut off within a multi-byte
+    character fails as that line only, like any other partial line.
+     */
+    private void replay(Path file, Consumer<Item> consumer) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[64 * 1024];
+            byte[] line = new byte[1024];
+            int lineLength = 0;
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                int start = 0;
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] != '\n') {
+                        continue;
+                    }
+                    if (lineLength == 0) {
+                        replayLine(file, buffer, start, i - start, consumer);
+                    } else {
+                        line = append(line, lineLength, buffer, start, i - start);
+                        replayLine(file, line, 0, lineLength + i - start, consumer);
+                        lineLength = 0;
+                    }
+                    start = i + 1;
+                }
+                line = append(line, lineLength, buffer, start, read - start);
+                lineLength += read - start;
+            }
+            replayLine(file, line, 0, lineLength, consumer);
+        }
+    }
+
+    private void replayLine(Path file, byte[] bytes, int offset, int length, Consumer<Item> consumer)
+            throws IOException {
+        if (isBlank(bytes, offset, length)) {
+            return;
+        }
+        try {
+            consumer.accept(reader.readValue(bytes, offset, length));
+        } catch (JsonProcessingException e) {
+            // A crash while appending leaves a partial last line behind
+            log.warn("Skipping unreadable line of {}: {}", file, e.getOriginalMessage());
+        }
+    }
+
+    private static byte[] append(byte[] line, int lineLength, byte[] bytes, int offset, int length) {
+        if (lineLength + length > line.length) {
+            line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+        }
+        System.arraycopy(bytes, offset, line, lineLength, length);
+        return line;
+    }
+
+    private static boolean isBlank(byte[] bytes, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            if (bytes[i] != ' ' && bytes[i] != '\t' && bytes[i] != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Path logFile(long generation) {
+        return directory.resolve(LOG_PREFIX + generation + SUFFIX);
+    }
+
+    private Path snapshotFile(long generation) {
+        return directory.resolve(SNAPSHOT_PREFIX + generation + SUFFIX);
+    }
+
+    private static long generationOf(Path file) {
+        Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+        return matcher.matches() ? Long.parseLong(matcher.group(2)) : -1;
+    }
+}
@@ -0,0 +1,247 @@
+package com.kamatos.codegenvalidationdemo.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory item store with a primary index by id and a secondary index by email, so filtering by email costs a
+ * lookup instead of a scan. Reads are lock-free. Writes lock one of {@link #STRIPES} locks chosen by item id, which
+ * keeps both indexes consistent per item while writes to different items proceed in parallel.
+ * <p>
+ * Both indexes keep the ids sorted, so pages of items are read in id order, starting after the last id of the
+ * previous page, without materializing the result set.
+ * <p>
+ * With `items.store.directory` set, every write is also appended to an {@link ItemLog} and the store is recovered
+ * from it at startup. Every `items.store.snapshot-interval` writes, and on shutdown, the log is compacted into a
+ * snapshot so recovery doesn't replay the full history.
+ */
+@Slf4j
+@Component
+public class ItemRepository implements DisposableBean {
+    static final int STRIPES = 64;
+
+    private final Map<UUID, Item> items = new ConcurrentHashMap<>();
+    private final NavigableSet<UUID> orderedIds = new ConcurrentSkipListSet<>();
+    private final Map<String, NavigableSet<UUID>> idsByEmail = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+    private final ItemLog itemLog;
+
+    public ItemRepository(@Value("${items.store.directory:}") String directory,
+                          @Value("${items.store.snapshot-interval:100000}") long snapshotInterval,
+                          @Value("${items.store.fsync:false}") boolean fsync) {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+
+        if (directory.isBlank()) {
+            this.itemLog = null;
+            return;
+        }
+
+        try {
+            this.itemLog = new ItemLog(Path.of(directory), snapshotInterval, fsync, this::awaitWrites, items::values);
+            itemLog.recover(this::index);
+            log.info("Recovered {} items from {}", items.size(), directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot recover items from " + directory, e);
+        }
+    }
+
+    public Item create(String name, String email) {
+        Item item = new Item(UUID.randomUUID(), name, email);
+        write(item);
+        return item;
+    }
+
+    /**
+     * Replaces the name and email of an existing item, or returns empty when there is no item with the given id.
+     */
+    public Optional<Item> update(UUID id, String name, String email) {
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            if (!items.containsKey(id)) {
+                return Optional.empty();
+            }
+            Item item = new Item(id, name, email);
+            write(item);
+            return Optional.of(item);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Optional<Item> findById(UUID id) {
+        return Optional.ofNullable(items.get(id));
+    }
+
+    /**
+     * Items with the given email, ignoring case.
+     */
+    public List<Item> findByEmail(String email) {
+        List<Item> result = new ArrayList<>();
+        iterate(email, null).forEachRemaining(result::add);
+        return result;
+    }
+
+    /**
+     * Returns up to `limit` items in id order, starting after the given id.
+     *
+     * @param email filter ignoring case, all items when `null`
+     * @param after id of the last item of the previous page, the first page when `null`
+     */
+    public Page findPage(String email, UUID after, int limit) {
+        Iterator<Item> iterator = iterate(email, after);
+        List<Item> result = new ArrayList<>(Math.min(limit, 256));
+        while (result.size() < limit && iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return new Page(result, iterator.hasNext() ? result.getLast().id() : null);
+    }
+
+    /**
+     * Lazily iterates the items in id order, starting after the given id. The iteration is weakly consistent: it
+     * never fails on concurrent writes, and items created or updated while iterating may or may not be returned.
+     *
+     * @param email filter ignoring case, all items when `null`
+     * @param after id to start after, the first item when `null`
+     */
+    public Iterator<Item> iterate(String email, UUID after) {
+        String key = email == null ? null : emailKey(email);
+        NavigableSet<UUID> ids = key == null ? orderedIds : idsByEmail.get(key);
+        if (ids == null) {
+            return Collections.emptyIterator();
+        }
+        Iterator<UUID> idIterator = (after == null ? ids : ids.tailSet(after, false)).iterator();
+
+        return new Iterator<>() {
+            private Item next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && idIterator.hasNext()) {
+                    Item item = items.get(idIterator.next());
+                    // The item may have changed its email since the index was read
+                    if (item != null && (key == null || emailKey(item.email()).equals(key))) {
+                        next = item;
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public Item next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Item item = next;
+                next = null;
+                return item;
+            }
+        };
+    }
+
+    public List<Item> findAll() {
+        return List.copyOf(items.values());
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    void awaitSnapshot() throws InterruptedException, ExecutionException {
+        if (itemLog != null) {
+            itemLog.awaitSnapshot();
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (itemLog != null) {
+            itemLog.close();
+        }
+    }
+
+    private void write(Item item) {
+        ReentrantLock lock = lockFor(item.id());
+        lock.lock();
+        try {
+            if (itemLog != null) {
+                itemLog.append(item);
+            }
+            index(item);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to the item log", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+    Called with the item's lock held, or during recovery.
+     */
+    private void index(Item item) {
+        Item previous = items.put(item.id(), item);
+        if (previous == null) {
+            orderedIds.add(item.id());
+        }
+        if (previous != null && previous.email() != null
+                && !emailKey(previous.email()).equals(emailKey(item.email()))) {
+            idsByEmail.computeIfPresent(emailKey(previous.email()), (key, ids) -> {
+                ids.remove(item.id());
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+        if (item.email() != null) {
+            idsByEmail.compute(emailKey(item.email()), (key, ids) -> {
+                NavigableSet<UUID> result = ids != null ? ids : new ConcurrentSkipListSet<>();
+                result.add(item.id());
+                return result;
+            });
+        }
+    }
+
+    /*
+    Passing every lock once guarantees that writes which held a lock before have completed.
+     */
+    private void awaitWrites() {
+        for (ReentrantLock lock : locks) {
+            lock.lock();
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock lockFor(UUID id) {
+        return locks[(id.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    /**
+     * Items of a page, and the id to continue after when there are more items.
+     */
+    public record Page(List<Item> items, UUID next) {
+    }
+
+    private static String emailKey(String email) {
+        return email == null ? "" : email.toLowerCase(Locale.ROOT);
+    }
+}
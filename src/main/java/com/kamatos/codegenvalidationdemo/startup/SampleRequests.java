@@ -0,0 +1,37 @@
+package com.kamatos.codegenvalidationdemo.startup;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.List;
+
+/**
+ * Valid and invalid requests covering every endpoint and every error path, to exercise the full request handling
+ * before real traffic arrives.
+ */
+@UtilityClass
+public class SampleRequests {
+    private static final String JSON = "application/json";
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String UNKNOWN_ID = "123e4567-e89b-12d3-a456-426614174000";
+
+    public static final List<SampleRequest> ALL = List.of(
+            new SampleRequest("POST", "/api/items", JSON, "{\"name\": \"John\", \"email\": \"john.doe@example.com\"}"),
+            new SampleRequest("POST", "/api/items", JSON, "{\"name\": \"test\", \"email\": \"invalid-format\"}"),
+            new SampleRequest("POST", "/api/items", JSON, "{\"name\": \"\", \"email\": \"john.doe@test.com\"}"),
+            new SampleRequest("PUT", "/api/items/" + UNKNOWN_ID, JSON, "{\"name\": \"test\"}"),
+            new SampleRequest("PUT", "/api/items/" + UNKNOWN_ID, JSON,
+                    "{\"name\": \"John\", \"email\": \"john.doe@example.com\"}"),
+            new SampleRequest("PATCH", "/api/items/" + UNKNOWN_ID, JSON, "{\"name\": \"test\"}"),
+            new SampleRequest("GET", "/api/items?email=john.doe@example.com", null, null),
+            new SampleRequest("GET", "/api/items?email=dummy@test.com", null, null),
+            new SampleRequest("GET", "/api/items?limit=1", null, null),
+            new SampleRequest("GET", "/api/items/stream", null, null),
+            new SampleRequest("POST", "/api/items/batch", NDJSON,
+                    "{\"name\": \"John\", \"email\": \"john.doe@example.com\"}\n{\"name\": \"test\"}\n{\"name\": "));
+
+    /**
+     * @param contentType content type of the body, `null` without a body
+     */
+    public record SampleRequest(String method, String path, String contentType, String body) {
+    }
+}
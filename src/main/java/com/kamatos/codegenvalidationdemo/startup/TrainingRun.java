@@ -0,0 +1,76 @@
+package com.kamatos.codegenvalidationdemo.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * With `startup.training.enabled=true`, sends the {@link SampleRequests} to the application once it is ready and
+ * exits. Run with `-XX:ArchiveClassesAtExit`, this is the training run that records the class-data-sharing archive of
+ * the `fast-startup` profile: every class loaded to serve valid and invalid requests ends up in the archive.
+ * <p>
+ * The flag is read at runtime rather than with a condition, as Spring AOT fixes the conditions at build time.
+ */
+@Slf4j
+@Component
+public class TrainingRun implements ApplicationListener<ApplicationReadyEvent> {
+    private static final int ROUNDS = 3;
+
+    private final boolean enabled;
+
+    public TrainingRun(@Value("${startup.training.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void onApplicationEvent(@NonNull ApplicationReadyEvent event) {
+        if (!enabled || !(event.getApplicationContext() instanceof WebServerApplicationContext context)) {
+            return;
+        }
+
+        URI base = URI.create("http://localhost:" + context.getWebServer().getPort());
+        int exitCode = 0;
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            for (int round = 0; round < ROUNDS; round++) {
+                for (SampleRequests.SampleRequest request : SampleRequests.ALL) {
+                    send(client, base, request);
+                }
+            }
+            log.info("Training run sent {} requests", ROUNDS * SampleRequests.ALL.size());
+        } catch (IOException e) {
+            log.error("Training run failed", e);
+            exitCode = 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exitCode = 1;
+        }
+
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+
+    private static void send(HttpClient client, URI base, SampleRequests.SampleRequest request)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(base.resolve(request.path()));
+        if (request.body() == null) {
+            builder.method(request.method(), HttpRequest.BodyPublishers.noBody());
+        } else {
+            builder.header("Content-Type", request.contentType())
+                    .method(request.method(), HttpRequest.BodyPublishers.ofString(request.body()));
+        }
+
+        HttpResponse<Void> response = client.send(builder.build(), HttpResponse.BodyHandlers.discarding());
+        log.debug("{} {} -> {}", request.method(), request.path(), response.statusCode());
+    }
+}
@@ -0,0 +1,239 @@
+package com.kamatos.codegenvalidationdemo.startup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.kamatos.codegenvalidationdemo.api.ItemsApi;
+import com.kamatos.codegenvalidationdemo.api.model.ValidationError;
+import com.kamatos.codegenvalidationdemo.api.model.ValidationErrorResponse;
+import com.kamatos.codegenvalidationdemo.config.WireFormat;
+import com.kamatos.codegenvalidationdemo.exception.PreEncodedErrorBodies;
+import com.kamatos.codegenvalidationdemo.exception.ValidationErrorMapper;
+import com.kamatos.codegenvalidationdemo.i18n.ErrorMessageCatalog;
+import com.kamatos.codegenvalidationdemo.validation.ItemsValidatorsRegistrar;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Conventions;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.Resource;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Takes the one-time costs of the first requests off them, before the application reports readiness (runners complete
+ * before the `ApplicationReadyEvent`):
+ * <ul>
+ *     <li>builds the Hibernate Validator metadata of the request models and of the `ItemsApi` handler methods, including
+ *     the constraints overriding the generated ones, e.g. `@ValidEmail` on `getItems`</li>
+ *     <li>builds the Jackson deserializers of the request bodies and serializers of the responses, for every format</li>
+ *     <li>binds the JSON bodies of the {@link SampleRequests} to the request models and validates them through the
+ *     binder's validator chains, validates the query parameters of the samples and renders their errors, for
+ *     `startup.warm-up.iterations` rounds, so the JIT compiles the validation path</li>
+ * </ul>
+ * Nothing is sent through HTTP, so the item store stays untouched. The time of the first request per operation is
+ * reported by `FirstRequestLatencyInterceptor`.
+ * <p>
+ * Like the {@link TrainingRun}, the flag is read at runtime rather than with a condition.
+ */
+@Slf4j
+@Component
+public class WarmUp implements ApplicationRunner {
+    private final RequestMappingHandlerMapping handlerMapping;
+    private final List<AbstractJackson2HttpMessageConverter> converters;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ItemsValidatorsRegistrar validatorsRegistrar;
+    private final ErrorMessageCatalog errorMessageCatalog;
+    private final PreEncodedErrorBodies preEncodedErrorBodies;
+    private final boolean enabled;
+    private final int iterations;
+
+    public WarmUp(RequestMappingHandlerMapping requestMappingHandlerMapping,
+                  List<AbstractJackson2HttpMessageConverter> converters, ObjectMapper objectMapper,
+                  Validator validator, ItemsValidatorsRegistrar validatorsRegistrar,
+                  ErrorMessageCatalog errorMessageCatalog, PreEncodedErrorBodies preEncodedErrorBodies,
+                  @Value("${startup.warm-up.enabled:true}") boolean enabled,
+                  @Value("${startup.warm-up.iterations:100}") int iterations) {
+        this.handlerMapping = requestMappingHandlerMapping;
+        this.converters = converters;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.validatorsRegistrar = validatorsRegistrar;
+        this.errorMessageCatalog = errorMessageCatalog;
+        this.preEncodedErrorBodies = preEncodedErrorBodies;
+        this.enabled = enabled;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        List<HandlerMethod> handlerMethods = handlerMapping.getHandlerMethods().values().stream()
+                .filter(handlerMethod -> ItemsApi.class.isAssignableFrom(handlerMethod.getBeanType()))
+                .distinct()
+                .map(HandlerMethod::createWithResolvedBean)
+                .toList();
+        List<Body> bodies = new ArrayList<>();
+        for (HandlerMethod handlerMethod : handlerMethods) {
+            prepare(handlerMethod, bodies);
+        }
+        long prepared = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++) {
+            for (Body body : bodies) {
+                body.exercise();
+            }
+            for (HandlerMethod handlerMethod : handlerMethods) {
+                validateParameters(handlerMethod);
+            }
+        }
+
+        log.info("Warm-up of {} handler methods and {} request models took {} ms, {} ms for the metadata and {} ms "
+                        + "for {} rounds of sample requests", handlerMethods.size(), bodies.size(),
+                millis(System.nanoTime() - start), millis(prepared - start), millis(System.nanoTime() - prepared),
+                iterations);
+    }
+
+    /*
+    Builds the validation metadata of the handler method and its request body, and the Jackson (de)serializers of
+    the body and the response in every format.
+     */
+    private void prepare(HandlerMethod handlerMethod, List<Body> bodies) {
+        validator.getConstraintsForClass(handlerMethod.getBeanType())
+                .getConstraintsForMethod(handlerMethod.getMethod().getName(),
+                        handlerMethod.getMethod().getParameterTypes());
+
+        JavaType responseType = objectMapper.constructType(
+                ResolvableType.forMethodReturnType(handlerMethod.getMethod()).getGeneric(0).getType());
+        if (!responseType.isTypeOrSubTypeOf(Resource.class)) {
+            converters.forEach(converter -> converter.getObjectMapper().writerFor(responseType));
+        }
+        converters.forEach(converter -> converter.getObjectMapper().writerFor(ValidationErrorResponse.class));
+
+        for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+            Class<?> type = parameter.getParameterType();
+            if (parameter.hasParameterAnnotation(RequestBody.class) && !Resource.class.isAssignableFrom(type)) {
+                validator.getConstraintsForClass(type);
+                converters.forEach(converter -> converter.getObjectMapper().readerFor(type));
+                bodies.add(new Body(parameter, objectMapper.readerFor(type), objectMapper.writerFor(type)));
+            }
+        }
+    }
+
+    /*
+    Validates the parameters of the handler method with the query parameters of every sample GET request, like the
+    built-in method validation of the controller.
+     */
+    private void validateParameters(HandlerMethod handlerMethod) {
+        MethodParameter[] parameters = handlerMethod.getMethodParameters();
+        for (SampleRequests.SampleRequest request : SampleRequests.ALL) {
+            if (!"GET".equals(request.method())) {
+                continue;
+            }
+
+            MultiValueMap<String, String> query = UriComponentsBuilder.fromUriString(request.path()).build()
+                    .getQueryParams();
+            Object[] args = new Object[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                RequestParam requestParam = parameters[i].getParameterAnnotation(RequestParam.class);
+                if (requestParam != null && parameters[i].getParameterType() == String.class) {
+                    args[i] = query.getFirst(requestParam.value());
+                }
+            }
+
+            Set<ConstraintViolation<Object>> violations = validator.forExecutables()
+                    .validateParameters(handlerMethod.getBean(), handlerMethod.getMethod(), args);
+            for (ConstraintViolation<Object> violation : violations) {
+                String parameterName = null;
+                for (Path.Node node : violation.getPropertyPath()) {
+                    parameterName = node.getName();
+                }
+                ValidationErrorMapper.buildParameterErrorCode(violation, parameterName);
+            }
+        }
+    }
+
+    /*
+    Renders the errors the way the error handler does, in every locale of the catalog.
+     */
+    private void render(List<ValidationError> errors) throws JsonProcessingException {
+        for (Locale locale : errorMessageCatalog.locales()) {
+            List<ValidationError> localized = errorMessageCatalog.localize(errors, locale);
+            if (preEncodedErrorBodies.isEnabled()) {
+                preEncodedErrorBodies.encode(localized, WireFormat.JSON);
+            } else {
+                objectMapper.writeValueAsBytes(new ValidationErrorResponse().errors(localized));
+            }
+        }
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /*
+    A request body parameter, exercised with every JSON body of the samples: read, bound and validated through the
+    binder of the controller, and written back or its errors rendered.
+     */
+    private final class Body {
+        private final MethodParameter parameter;
+        private final String objectName;
+        private final ObjectReader reader;
+        private final ObjectWriter writer;
+
+        private Body(MethodParameter parameter, ObjectReader reader, ObjectWriter writer) {
+            this.parameter = parameter;
+            this.objectName = Conventions.getVariableNameForParameter(parameter);
+            this.reader = reader;
+            this.writer = writer;
+        }
+
+        void exercise() {
+            for (SampleRequests.SampleRequest request : SampleRequests.ALL) {
+                if (!"application/json".equals(request.contentType())) {
+                    continue;
+                }
+
+                try {
+                    Object target = reader.readValue(request.body());
+                    WebDataBinder binder = new WebDataBinder(target, objectName);
+                    validatorsRegistrar.initItemsControllerBinder(binder);
+                    binder.validate();
+
+                    if (binder.getBindingResult().hasErrors()) {
+                        render(ValidationErrorMapper.buildValidationErrors(binder.getBindingResult()));
+                    } else {
+                        writer.writeValueAsBytes(target);
+                    }
+                } catch (JsonProcessingException e) {
+                    log.debug("Sample body not readable as {}", parameter.getParameterType().getSimpleName(), e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.kamatos.codegenvalidationdemo.stream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.kamatos.codegenvalidationdemo.repository.Item;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * NDJSON lines of `ItemResponse`, encoded one at a time while the items are iterated.
+ */
+public class ItemsNdjsonInputStream extends NdjsonInputStream {
+    private final Iterator<Item> items;
+
+    public ItemsNdjsonInputStream(Iterator<Item> items, JsonFactory jsonFactory) throws IOException {
+        super(jsonFactory);
+        this.items = items;
+    }
+
+    @Override
+    protected boolean writeNext(JsonGenerator generator) throws IOException {
+        if (!items.hasNext()) {
+            return false;
+        }
+        writeItem(generator, items.next());
+        return true;
+    }
+}
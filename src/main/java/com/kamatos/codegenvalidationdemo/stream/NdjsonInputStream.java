@@ -0,0 +1,112 @@
+package com.kamatos.codegenvalidationdemo.stream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.kamatos.codegenvalidationdemo.repository.Item;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Pull based NDJSON response body. Reading the stream asks the subclass to write its next line, so only the line
+ * being read is held in memory and the first bytes are available as soon as the first line is written.
+ */
+public abstract class NdjsonInputStream extends InputStream {
+    private final LineBuffer line = new LineBuffer();
+    private final JsonGenerator generator;
+
+    private boolean finished;
+    private int position;
+
+    protected NdjsonInputStream(JsonFactory jsonFactory) throws IOException {
+        this.generator = jsonFactory.createGenerator(line);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    /**
+     * Writes the next value with the generator, or returns `false` when there are no more values.
+     */
+    protected abstract boolean writeNext(JsonGenerator generator) throws IOException;
+
+    /**
+     * Ends the stream after the line currently being written.
+     */
+    protected void finish() {
+        finished = true;
+    }
+
+    /**
+     * Writes the id, name and email of an item as a JSON object, the shape of `ItemResponse`.
+     */
+    protected static void writeItem(JsonGenerator generator, Item item) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", item.id().toString());
+        generator.writeStringField("name", item.name());
+        generator.writeStringField("email", item.email());
+        generator.writeEndObject();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return line.byteAt(position++);
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int count = Math.min(len, line.size() - position);
+        line.copyTo(position, b, off, count);
+        position += count;
+        return count;
+    }
+
+    /**
+     * Closes the generator, which returns its buffers to Jackson's recycler. Subclasses release their source after
+     * calling this.
+     */
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        generator.close();
+    }
+
+    private boolean fill() throws IOException {
+        while (position == line.size()) {
+            if (finished) {
+                return false;
+            }
+            line.reset();
+            position = 0;
+            if (writeNext(generator)) {
+                generator.writeRaw('\n');
+                generator.flush();
+            } else {
+                finished = true;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Output buffer of the current line, reused for every value.
+     */
+    private static final class LineBuffer extends ByteArrayOutputStream {
+
+        int byteAt(int position) {
+            return buf[position] & 0xFF;
+        }
+
+        void copyTo(int position, byte[] target, int offset, int length) {
+            System.arraycopy(buf, position, target, offset, length);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.kamatos.codegenvalidationdemo.validation;
+
+/**
+ * What to do when async validators don't complete within the validation budget of a request.
+ */
+public enum AsyncTimeoutBehavior {
+    /**
+     * Reject the target with the `validation.timeout` error.
+     */
+    FAIL,
+    /**
+     * Ignore the unfinished validators, keeping the errors of the completed ones.
+     */
+    SKIP
+}
@@ -0,0 +1,15 @@
+package com.kamatos.codegenvalidationdemo.validation;
+
+import org.springframework.validation.Validator;
+
+/**
+ * SPI for validators doing slow work, e.g. lookups against a local reputation file or a remote service. Controller
+ * validators additionally implementing this interface don't run one after another on the request thread: they are
+ * started concurrently on virtual threads, while the regular validators run, and have to complete within the
+ * per-request budget of {@link ParallelValidationExecutor}. Their errors are merged into the same
+ * {@link org.springframework.validation.BindingResult}, in registration order.
+ * <p>
+ * Implementations must be thread safe and must not modify the validated target.
+ */
+public interface AsyncValidator extends Validator {
+}
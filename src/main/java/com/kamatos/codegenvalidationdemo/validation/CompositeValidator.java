@@ -0,0 +1,158 @@
+package com.kamatos.codegenvalidationdemo.validation;
+
+import com.kamatos.codegenvalidationdemo.observability.Endpoint;
+import com.kamatos.codegenvalidationdemo.observability.ValidationEvent;
+import com.kamatos.codegenvalidationdemo.observability.ValidationMetrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.lang.NonNull;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prebuilt chain of validators supporting a single target class. Delegates are resolved once, when the chain is
+ * built, and then invoked without further {@link Validator#supports(Class)} checks: {@link SchemaValidator}s first,
+ * followed by the custom validators in registration order. {@link AsyncValidator}s are started before and run
+ * concurrently with the others, their errors are appended last. Every run emits a {@link ValidationEvent}, and with
+ * {@link ValidationMetrics} enabled the chain and each of its validators are timed, with the timers of each endpoint
+ * looked up once.
+ */
+public final class CompositeValidator implements Validator {
+    private static final Validator[] NONE = new Validator[0];
+
+    private final Class<?> targetClass;
+    private final Validator[] delegates;
+    private final Validator[] asyncDelegates;
+    private final ParallelValidationExecutor parallelValidationExecutor;
+    private final ValidationMetrics validationMetrics;
+    private final boolean replacesBeanValidation;
+    private final Map<Endpoint, ValidationMetrics.ChainTimers> timers = new ConcurrentHashMap<>();
+
+    private CompositeValidator(Class<?> targetClass, Validator[] delegates, Validator[] asyncDelegates,
+                               ParallelValidationExecutor parallelValidationExecutor,
+                               ValidationMetrics validationMetrics, boolean replacesBeanValidation) {
+        this.targetClass = targetClass;
+        this.delegates = delegates;
+        this.asyncDelegates = asyncDelegates;
+        this.parallelValidationExecutor = parallelValidationExecutor;
+        this.validationMetrics = validationMetrics;
+        this.replacesBeanValidation = replacesBeanValidation;
+    }
+
+    public static CompositeValidator of(Class<?> targetClass, List<? extends Validator> validators) {
+        return of(targetClass, validators, null);
+    }
+
+    public static CompositeValidator of(Class<?> targetClass, List<? extends Validator> validators,
+                                        ParallelValidationExecutor parallelValidationExecutor) {
+        return of(targetClass, validators, parallelValidationExecutor, null);
+    }
+
+    /**
+     * @param parallelValidationExecutor executor of the {@link AsyncValidator}s, without one they run sequentially
+     * @param validationMetrics          metrics to record, none when `null` or disabled
+     */
+    public static CompositeValidator of(Class<?> targetClass, List<? extends Validator> validators,
+                                        ParallelValidationExecutor parallelValidationExecutor,
+                                        ValidationMetrics validationMetrics) {
+        List<? extends Validator> supporting = validators.stream()
+                .filter(validator -> validator.supports(targetClass))
+                .sorted(Comparator.comparing(validator -> !(validator instanceof SchemaValidator)))
+                .toList();
+
+        boolean parallel = parallelValidationExecutor != null;
+        Validator[] delegates = supporting.stream()
+                .filter(validator -> !parallel || !(validator instanceof AsyncValidator))
+                .toArray(Validator[]::new);
+        Validator[] asyncDelegates = !parallel ? NONE : supporting.stream()
+                .filter(validator -> validator instanceof AsyncValidator)
+                .toArray(Validator[]::new);
+        boolean replacesBeanValidation = Arrays.stream(delegates)
+                .anyMatch(validator -> validator instanceof SchemaValidator schemaValidator
+                        && schemaValidator.replacesBeanValidation());
+
+        return new CompositeValidator(targetClass, delegates, asyncDelegates, parallelValidationExecutor,
+                validationMetrics != null && validationMetrics.isEnabled() ? validationMetrics : null,
+                replacesBeanValidation);
+    }
+
+    public boolean isEmpty() {
+        return delegates.length == 0 && asyncDelegates.length == 0;
+    }
+
+    public boolean replacesBeanValidation() {
+        return replacesBeanValidation;
+    }
+
+    @Override
+    public boolean supports(@NonNull Class<?> clazz) {
+        return targetClass.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(@NonNull Object target, @NonNull Errors errors) {
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
+
+        if (validationMetrics == null) {
+            validateDelegates(target, errors);
+        } else {
+            validateTimed(target, errors);
+        }
+
+        event.complete(targetClass.getSimpleName(), errors.getErrorCount());
+    }
+
+    private void validateDelegates(Object target, Errors errors) {
+        if (asyncDelegates.length == 0) {
+            for (Validator delegate : delegates) {
+                delegate.validate(target, errors);
+            }
+            return;
+        }
+
+        ParallelValidationExecutor.PendingValidation pending =
+                parallelValidationExecutor.start(asyncDelegates, target, errors.getObjectName());
+        for (Validator delegate : delegates) {
+            delegate.validate(target, errors);
+        }
+        pending.join(errors);
+    }
+
+    private void validateTimed(Object target, Errors errors) {
+        ValidationMetrics.ChainTimers chainTimers = chainTimers(Endpoint.current());
+        long chainStart = System.nanoTime();
+
+        ParallelValidationExecutor.PendingValidation pending = asyncDelegates.length == 0 ? null
+                : parallelValidationExecutor.start(chainTimers.timedAsyncValidators(), target, errors.getObjectName());
+        // Each validator ends where the next one starts, which saves a clock read per validator
+        long start = pending == null ? chainStart : System.nanoTime();
+        Timer[] validatorTimers = chainTimers.validators();
+        for (int i = 0; i < delegates.length; i++) {
+            delegates[i].validate(target, errors);
+            long end = System.nanoTime();
+            validatorTimers[i].record(end - start, TimeUnit.NANOSECONDS);
+            start = end;
+        }
+        if (pending != null) {
+            pending.join(errors);
+        }
+
+        chainTimers.chain().record(System.nanoTime() - chainStart, TimeUnit.NANOSECONDS);
+    }
+
+    private ValidationMetrics.ChainTimers chainTimers(Endpoint endpoint) {
+        ValidationMetrics.ChainTimers chainTimers = timers.get(endpoint);
+        if (chainTimers == null) {
+            chainTimers = timers.computeIfAbsent(endpoint,
+                    key -> validationMetrics.chainTimers(targetClass, delegates, asyncDelegates, key));
+        }
+        return chainTimers;
+    }
+}
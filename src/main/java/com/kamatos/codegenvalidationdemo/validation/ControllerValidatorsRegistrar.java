@@ -0,0 +1,57 @@
+package com.kamatos.codegenvalidationdemo.validation;
+
+import com.kamatos.codegenvalidationdemo.observability.ValidationMetrics;
+import org.springframework.validation.Validator;
+import org.springframework.web.bind.WebDataBinder;
+
+import java.util.List;
+
+/**
+ * Registers validators for a controller using Spring's @InitBinder mechanism. Validators are discovered through
+ * a controller specific marker interface (see {@link ItemsControllerValidator}) and grouped per target class into a
+ * prebuilt {@link CompositeValidator}. The chains are cached in a {@link ClassValue}, so binder initialization costs
+ * a single lookup no matter how many validators are registered. When the chain includes a generated
+ * {@link SchemaValidator} covering all constraints of the model, it replaces the reflective bean validation.
+ * {@link AsyncValidator}s of a chain run concurrently through the {@link ParallelValidationExecutor}. Chains record
+ * their {@link ValidationMetrics}.
+ *
+ * @param <V> marker interface of the validators handled by this registrar
+ */
+public class ControllerValidatorsRegistrar<V extends Validator> {
+    private final List<V> validators;
+    private final ParallelValidationExecutor parallelValidationExecutor;
+    private final ValidationMetrics validationMetrics;
+
+    private final ClassValue<CompositeValidator> chains = new ClassValue<>() {
+        @Override
+        protected CompositeValidator computeValue(Class<?> type) {
+            return CompositeValidator.of(type, validators, parallelValidationExecutor, validationMetrics);
+        }
+    };
+
+    public ControllerValidatorsRegistrar(List<V> validators, ParallelValidationExecutor parallelValidationExecutor,
+                                         ValidationMetrics validationMetrics) {
+        this.validators = List.copyOf(validators);
+        this.parallelValidationExecutor = parallelValidationExecutor;
+        this.validationMetrics = validationMetrics;
+    }
+
+    public void initBinder(WebDataBinder binder) {
+        Object target = binder.getTarget();
+        if (target == null) return;
+
+        CompositeValidator chain = chains.get(target.getClass());
+        if (chain.replacesBeanValidation()) {
+            binder.replaceValidators(chain);
+        } else if (!chain.isEmpty()) {
+            binder.addValidators(chain);
+        }
+    }
+
+    /**
+     * Builds the chain for the given class upfront, e.g. for request models known at startup.
+     */
+    public void precompute(Class<?> type) {
+        chains.get(type);
+    }
+}
@@ -1,13 +1,17 @@
 package com.kamatos.codegenvalidationdemo.validation;
 
 import com.kamatos.codegenvalidationdemo.api.model.CreateItemRequest;
-import com.kamatos.codegenvalidationdemo.validation.constraint.EmailConstraintValidator;
+import com.kamatos.codegenvalidationdemo.validation.constraint.EmailRules;
+import com.kamatos.codegenvalidationdemo.validation.constraint.EmailRulesEvaluator;
+import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.Errors;
 
 @Component
+@RequiredArgsConstructor
 public class CreateItemRequestValidator implements ItemsControllerValidator {
+    private final EmailRulesEvaluator emailRulesEvaluator;
 
     @Override
     public boolean supports(@NonNull Class<?> clazz) {
@@ -20,8 +24,16 @@ public class CreateItemRequestValidator implements ItemsControllerValidator {
 
         NameValidator.validateName(request.getName(), errors);
 
-        if (request.getEmail() != null && !EmailConstraintValidator.NAME_LASTNAME_PATTERN.matcher(request.getEmail()).matches()) {
+        if (request.getEmail() == null) {
+            return;
+        }
+
+        int violations = emailRulesEvaluator.check(request.getEmail());
+        if ((violations & EmailRules.FORMAT_VIOLATION) != 0) {
             errors.rejectValue("email", "format.name_lastname_required", "Email must be in format 'name.lastname@domain'");
         }
+        if ((violations & EmailRules.DOMAIN_BLOCKED) != 0) {
+            errors.rejectValue("email", "domain.blocked", "Email domain is blocked");
+        }
     }
 }
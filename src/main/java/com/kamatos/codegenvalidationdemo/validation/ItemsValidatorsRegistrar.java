@@ -1,30 +1,39 @@
 package com.kamatos.codegenvalidationdemo.validation;
 
-import lombok.RequiredArgsConstructor;
+import com.kamatos.codegenvalidationdemo.api.ItemsApi;
+import com.kamatos.codegenvalidationdemo.observability.ValidationMetrics;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.RequestBody;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
 import java.util.List;
 
 /**
- * Automatically registers validators for the TodoItemsController using Spring's @InitBinder mechanism.
+ * Automatically registers validators for the ItemsController using Spring's @InitBinder mechanism.
  * This approach integrates custom validation with Spring MVC's validation framework,
  * allowing all validation errors to be collected in the BindingResult.
  */
 @Component
-@RequiredArgsConstructor
-public class ItemsValidatorsRegistrar {
-    private final List<ItemsControllerValidator> itemsControllerValidators;
+public class ItemsValidatorsRegistrar extends ControllerValidatorsRegistrar<ItemsControllerValidator> {
 
-    public void initItemsControllerBinder(WebDataBinder binder) {
-        Object target = binder.getTarget();
-        if (target == null) return;
+    public ItemsValidatorsRegistrar(List<ItemsControllerValidator> itemsControllerValidators,
+                                    ParallelValidationExecutor parallelValidationExecutor,
+                                    ValidationMetrics validationMetrics) {
+        super(itemsControllerValidators, parallelValidationExecutor, validationMetrics);
 
-        Class<?> clazz = target.getClass();
+        // Build the chains for all request bodies of the API upfront, so the first request doesn't pay for it
+        for (Method method : ItemsApi.class.getMethods()) {
+            for (Parameter parameter : method.getParameters()) {
+                if (parameter.isAnnotationPresent(RequestBody.class)) {
+                    precompute(parameter.getType());
+                }
+            }
+        }
+    }
 
-        // Register all validators that support the target class
-        itemsControllerValidators.stream()
-                .filter(validator -> validator.supports(clazz))
-                .forEach(binder::addValidators);
+    public void initItemsControllerBinder(WebDataBinder binder) {
+        initBinder(binder);
     }
 }
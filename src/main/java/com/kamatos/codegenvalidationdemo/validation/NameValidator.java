@@ -1,22 +1,23 @@
 package com.kamatos.codegenvalidationdemo.validation;
 
 import com.kamatos.codegenvalidationdemo.api.model.ValidationError;
+import com.kamatos.codegenvalidationdemo.exception.ImmutableValidationError;
 import lombok.experimental.UtilityClass;
 import org.springframework.validation.Errors;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @UtilityClass
 public final class NameValidator {
+    public static final ValidationError NAME_NON_TEST = ImmutableValidationError.of("name.nonTest", "Name cannot be Test");
 
-    public static List<ValidationError> validateNameIfTest(String name) {
-        List<ValidationError> result = new ArrayList<>();
-        if ("test".equalsIgnoreCase(name)) {
-            result.add(new ValidationError().code("name.nonTest").message("Name cannot be Test"));
-        }
+    private static final List<ValidationError> NAME_NON_TEST_ERRORS = List.of(NAME_NON_TEST);
 
-        return result;
+    /**
+     * Returns immutable, shared lists, so the rule costs no allocation on either outcome.
+     */
+    public static List<ValidationError> validateNameIfTest(String name) {
+        return "test".equalsIgnoreCase(name) ? NAME_NON_TEST_ERRORS : List.of();
     }
 
     public static void validateName(String name, Errors errors) {
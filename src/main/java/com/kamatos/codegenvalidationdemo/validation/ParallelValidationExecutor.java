@@ -0,0 +1,115 @@
+package com.kamatos.codegenvalidationdemo.validation;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs {@link AsyncValidator}s concurrently on virtual threads. Each validator reports into its own errors holder,
+ * which are merged into the request's errors once all of them completed or the budget ran out.
+ */
+@Component
+public class ParallelValidationExecutor implements DisposableBean {
+    public static final String TIMEOUT_CODE = "validation.timeout";
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final long budgetNanos;
+    private final AsyncTimeoutBehavior timeoutBehavior;
+
+    public ParallelValidationExecutor(@Value("${validation.async.budget:500ms}") Duration budget,
+                                      @Value("${validation.async.timeout-behavior:FAIL}") AsyncTimeoutBehavior timeoutBehavior) {
+        this.budgetNanos = budget.toNanos();
+        this.timeoutBehavior = timeoutBehavior;
+    }
+
+    /**
+     * Starts the given validators, the validation budget counts from here.
+     */
+    public PendingValidation start(Validator[] validators, Object target, String objectName) {
+        long deadline = System.nanoTime() + budgetNanos;
+        List<Future<Errors>> futures = new ArrayList<>(validators.length);
+
+        for (Validator validator : validators) {
+            futures.add(executor.submit(() -> {
+                Errors errors = new BeanPropertyBindingResult(target, objectName);
+                validator.validate(target, errors);
+                return errors;
+            }));
+        }
+
+        return new PendingValidation(futures, deadline);
+    }
+
+    @Override
+    public void destroy() {
+        executor.close();
+    }
+
+    public final class PendingValidation {
+        private final List<Future<Errors>> futures;
+        private final long deadline;
+
+        private PendingValidation(List<Future<Errors>> futures, long deadline) {
+            this.futures = futures;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Waits for the validators until the deadline and merges their errors into the given errors.
+         */
+        public void join(Errors errors) {
+            boolean timedOut = false;
+
+            for (Future<Errors> future : futures) {
+                try {
+                    if (!timedOut) {
+                        errors.addAllErrors(future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+                    } else if (future.state() == Future.State.SUCCESS) {
+                        errors.addAllErrors(future.resultNow());
+                    } else if (future.state() == Future.State.FAILED) {
+                        throw failure(future.exceptionNow());
+                    } else {
+                        future.cancel(true);
+                    }
+                } catch (TimeoutException e) {
+                    timedOut = true;
+                    future.cancel(true);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    timedOut = true;
+                    future.cancel(true);
+                } catch (ExecutionException e) {
+                    throw failure(e.getCause());
+                }
+            }
+
+            if (timedOut && timeoutBehavior == AsyncTimeoutBehavior.FAIL) {
+                errors.reject(TIMEOUT_CODE, "Validation did not complete in time");
+            }
+        }
+
+        private RuntimeException failure(Throwable cause) {
+            cancelAll();
+            return cause instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new IllegalStateException("Async validator failed", cause);
+        }
+
+        private void cancelAll() {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.kamatos.codegenvalidationdemo.validation;
+
+import org.springframework.validation.Validator;
+
+/**
+ * Validator of the OpenAPI schema constraints of a generated model, emitted at build time next to the model. Runs
+ * before any custom validator, and when it covers all constraints of the model it replaces bean validation for it.
+ */
+public interface SchemaValidator extends Validator {
+
+    /**
+     * Whether all constraints of the model are checked, so bean validation doesn't have to run for it.
+     */
+    boolean replacesBeanValidation();
+}
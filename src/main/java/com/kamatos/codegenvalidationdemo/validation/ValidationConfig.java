@@ -0,0 +1,33 @@
+package com.kamatos.codegenvalidationdemo.validation;
+
+import com.kamatos.codegenvalidationdemo.i18n.CachingMessageInterpolator;
+import com.kamatos.codegenvalidationdemo.i18n.ErrorMessageCatalog;
+import org.hibernate.validator.BaseHibernateValidatorConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.beanvalidation.LocaleContextMessageInterpolator;
+
+@Configuration
+public class ValidationConfig {
+    /*
+     * Enables custom constraint annotations on overridden controller methods. This allows
+     * generated API interfaces to have basic constraints while controller implementations
+     * can add additional custom validation constraints that aren't present in the interface.
+     */
+    @Bean
+    public ValidationConfigurationCustomizer allowParameterConstraintOverrideCustomizer() {
+        return (configuration) -> configuration.addProperty(
+                BaseHibernateValidatorConfiguration.ALLOW_PARAMETER_CONSTRAINT_OVERRIDE, "true");
+    }
+
+    /*
+     * Resolves constraint messages through the error message catalog and caches them per constraint and locale, so
+     * responses with many violations do not parse and interpolate the same templates again.
+     */
+    @Bean
+    public ValidationConfigurationCustomizer cachingMessageInterpolatorCustomizer(ErrorMessageCatalog errorMessageCatalog) {
+        return (configuration) -> configuration.messageInterpolator(new LocaleContextMessageInterpolator(
+                new CachingMessageInterpolator(configuration.getDefaultMessageInterpolator(), errorMessageCatalog)));
+    }
+}
@@ -0,0 +1,206 @@
+package com.kamatos.codegenvalidationdemo.validation.blocklist;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable set of blocked email domains. Entries are either exact domains (`example.com`) or wildcards
+ * (`*.example.com`) matching every subdomain, but not the domain itself.
+ * <p>
+ * The set is an open addressing hash table of 64-bit fingerprints stored off-heap in a direct buffer, 8 bytes per
+ * slot at a load factor of at most 0.5, so millions of domains don't weigh on the heap or the GC. Fingerprints are
+ * built from the domain's characters right to left, which lets a lookup probe every parent domain while scanning
+ * the input once: one probe per label, no allocation. Domains are compared ignoring ASCII case, internationalized
+ * domains are expected in their punycode form. Two different domains sharing a fingerprint is possible in theory,
+ * at 62 bits it's negligible for any realistic list.
+ */
+public final class BlockedDomains {
+    private static final long EXACT = 1L;
+    private static final long WILDCARD = 1L << 1;
+    private static final long FLAGS = EXACT | WILDCARD;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final int MIN_CAPACITY = 16;
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    public static final BlockedDomains DEFAULT = of(List.of("test.com"));
+
+    private final LongBuffer slots;
+    private final int mask;
+    private final int size;
+    private final long version = VERSIONS.incrementAndGet();
+
+    private BlockedDomains(int entries) {
+        int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, entries) * 2 - 1) << 1);
+        this.slots = ByteBuffer.allocateDirect(capacity * Long.BYTES).asLongBuffer();
+        this.mask = capacity - 1;
+        this.size = entries;
+    }
+
+    public static BlockedDomains of(Collection<String> domains) {
+        return parse(ByteBuffer.wrap(String.join("\n", domains).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Loads a list with one domain per line from a memory mapped file. Blank lines and lines starting with `#` are
+     * ignored. The file is only read while building the table, to update the list replace it atomically (write a
+     * new file and rename it) rather than rewriting it in place.
+     */
+    public static BlockedDomains load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Blocked domains file is too large: " + file);
+            }
+            return parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Identifies this table, every loaded table gets a higher version than the ones loaded before.
+     */
+    public long version() {
+        return version;
+    }
+
+    public long offHeapBytes() {
+        return (long) slots.capacity() * Long.BYTES;
+    }
+
+    /**
+     * Whether the domain in `value[start, end)` is blocked, either by an exact entry or by a wildcard entry of one
+     * of its parent domains.
+     */
+    public boolean isBlocked(CharSequence value, int start, int end) {
+        if (start >= end) {
+            return false;
+        }
+
+        long hash = FNV_OFFSET;
+        for (int i = end - 1; i >= start; i--) {
+            char c = value.charAt(i);
+            // value[i + 1, end) is a parent domain
+            if (c == '.' && i < end - 1 && contains(hash, WILDCARD)) {
+                return true;
+            }
+            hash = step(hash, c);
+        }
+        return contains(hash, EXACT);
+    }
+
+    private boolean contains(long hash, long flag) {
+        long mixed = mix(hash);
+        long fingerprint = fingerprint(mixed);
+        int index = (int) (mixed >>> 32) & mask;
+
+        long slot;
+        while ((slot = slots.get(index)) != 0) {
+            if ((slot & ~FLAGS) == fingerprint) {
+                return (slot & flag) != 0;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    private void insert(long hash, long flag) {
+        long mixed = mix(hash);
+        long fingerprint = fingerprint(mixed);
+        int index = (int) (mixed >>> 32) & mask;
+
+        long slot;
+        while ((slot = slots.get(index)) != 0) {
+            if ((slot & ~FLAGS) == fingerprint) {
+                slots.put(index, slot | flag);
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        slots.put(index, fingerprint | flag);
+    }
+
+    /*
+    Two passes over the raw bytes: the first one counts the entries to size the table, the second one inserts them.
+    No strings are created per line, so loading a large file only allocates the table itself.
+     */
+    private static BlockedDomains parse(ByteBuffer content) {
+        BlockedDomains domains = new BlockedDomains(forEachEntry(content, null));
+        forEachEntry(content, domains);
+        return domains;
+    }
+
+    private static int forEachEntry(ByteBuffer content, BlockedDomains target) {
+        int limit = content.limit();
+        int entries = 0;
+        int lineStart = 0;
+
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && content.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+
+            int start = lineStart;
+            int end = lineEnd;
+            while (start < end && isWhitespace(content.get(start))) {
+                start++;
+            }
+            while (end > start && isWhitespace(content.get(end - 1))) {
+                end--;
+            }
+
+            if (start < end && content.get(start) != '#') {
+                long flag = EXACT;
+                if (end - start > 2 && content.get(start) == '*' && content.get(start + 1) == '.') {
+                    flag = WILDCARD;
+                    start += 2;
+                }
+                if (target != null) {
+                    long hash = FNV_OFFSET;
+                    for (int i = end - 1; i >= start; i--) {
+                        hash = step(hash, (char) (content.get(i) & 0xff));
+                    }
+                    target.insert(hash, flag);
+                }
+                entries++;
+            }
+            lineStart = lineEnd + 1;
+        }
+        return entries;
+    }
+
+    private static long step(long hash, char c) {
+        char lower = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        return (hash ^ lower) * FNV_PRIME;
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static long fingerprint(long mixed) {
+        long fingerprint = mixed & ~FLAGS;
+        return fingerprint != 0 ? fingerprint : FLAGS + 1;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+}
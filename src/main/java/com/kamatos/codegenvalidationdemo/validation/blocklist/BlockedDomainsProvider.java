@@ -0,0 +1,68 @@
+package com.kamatos.codegenvalidationdemo.validation.blocklist;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Holds the current {@link BlockedDomains}, loaded from `validation.blocked-domains.file` or {@link
+ * BlockedDomains#DEFAULT} when no file is configured. The file is checked for changes periodically, a new table is
+ * built in the background and swapped in at once, so lookups never wait for a reload. A failed reload keeps the
+ * current table.
+ */
+@Slf4j
+@Component
+public class BlockedDomainsProvider {
+    private final Path file;
+    private volatile BlockedDomains current;
+    private FileTime lastModified;
+
+    public BlockedDomainsProvider(@Value("${validation.blocked-domains.file:}") String file) {
+        this.file = file.isBlank() ? null : Path.of(file);
+        if (this.file == null) {
+            this.current = BlockedDomains.DEFAULT;
+            return;
+        }
+
+        try {
+            load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load blocked domains from " + file, e);
+        }
+    }
+
+    public BlockedDomains current() {
+        return current;
+    }
+
+    @Scheduled(fixedDelayString = "${validation.blocked-domains.reload-interval:10s}")
+    public void reloadIfModified() {
+        if (file == null) {
+            return;
+        }
+
+        try {
+            if (!Files.getLastModifiedTime(file).equals(lastModified)) {
+                load();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Reloading blocked domains from {} failed, keeping the current ones", file, e);
+        }
+    }
+
+    private synchronized void load() throws IOException {
+        // Read the timestamp first, a change made while loading is then picked up by the next check
+        FileTime modified = Files.getLastModifiedTime(file);
+        BlockedDomains loaded = BlockedDomains.load(file);
+        current = loaded;
+        lastModified = modified;
+        log.info("Loaded {} blocked domains from {} ({} KiB off-heap)", loaded.size(), file, loaded.offHeapBytes() / 1024);
+    }
+}
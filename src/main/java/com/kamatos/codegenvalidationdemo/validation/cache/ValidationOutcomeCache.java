@@ -0,0 +1,103 @@
+package com.kamatos.codegenvalidationdemo.validation.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Opt-in cache of validation outcomes keyed by validator, version of the rules the validator applies and the
+ * normalized input value. Eviction is frequency aware (Caffeine's W-TinyLFU), so the few values which repeat all the
+ * time stay cached while one-off values don't push them out.
+ * <p>
+ * Outcomes computed with older rules are never returned, since the rules version is part of the key. When a
+ * validator asks for a newer version its older entries are dropped right away instead of waiting for eviction.
+ * <p>
+ * When enabled, its statistics are published as the `cache.*` meters tagged `cache=validationOutcomes`
+ * (`cache.gets` by hit/miss result, `cache.size`, `cache.evictions`, ...).
+ */
+@Component
+public class ValidationOutcomeCache implements MeterBinder {
+    static final String METRICS_NAME = "validationOutcomes";
+    /**
+     * Longer values are validated every time, they are unlikely to repeat and would only take up space.
+     */
+    static final int MAX_VALUE_LENGTH = 320;
+
+    private final Cache<Key, Object> cache;
+    private final Map<String, Long> rulesVersions = new ConcurrentHashMap<>();
+
+    public ValidationOutcomeCache(@Value("${validation.cache.enabled:false}") boolean enabled,
+                                  @Value("${validation.cache.maximum-size:10000}") long maximumSize,
+                                  @Value("${validation.cache.ttl:10m}") Duration ttl) {
+        this.cache = !enabled ? null : Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public static ValidationOutcomeCache disabled() {
+        return new ValidationOutcomeCache(false, 0, Duration.ZERO);
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Returns the cached outcome of the validator for the value, computing it with `validation` on a miss. The value
+     * must already be normalized, so that inputs with the same outcome share an entry.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String validator, long rulesVersion, String value, Function<String, T> validation) {
+        if (cache == null || value.length() > MAX_VALUE_LENGTH) {
+            return validation.apply(value);
+        }
+
+        Long latestVersion = rulesVersions.get(validator);
+        if (latestVersion == null || latestVersion < rulesVersion) {
+            invalidateOlderThan(validator, rulesVersion);
+        }
+        return (T) cache.get(new Key(validator, rulesVersion, value), key -> validation.apply(key.value()));
+    }
+
+    public CacheStats stats() {
+        return cache == null ? CacheStats.empty() : cache.stats();
+    }
+
+    public long size() {
+        return cache == null ? 0 : cache.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(registry, cache, METRICS_NAME);
+        }
+    }
+
+    private void invalidateOlderThan(String validator, long rulesVersion) {
+        boolean[] advanced = {false};
+        rulesVersions.merge(validator, rulesVersion, (current, candidate) -> {
+            advanced[0] = candidate > current;
+            return Math.max(current, candidate);
+        });
+        if (advanced[0]) {
+            cache.asMap().keySet().removeIf(key -> key.validator().equals(validator) && key.rulesVersion() < rulesVersion);
+        }
+    }
+
+    private record Key(String validator, long rulesVersion, String value) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.kamatos.codegenvalidationdemo.validation.constraint;
+
+import com.kamatos.codegenvalidationdemo.controller.ItemCursor;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class CursorConstraintValidator implements ConstraintValidator<ValidCursor, String> {
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext ctx) {
+        return ItemCursor.isValid(value);
+    }
+}
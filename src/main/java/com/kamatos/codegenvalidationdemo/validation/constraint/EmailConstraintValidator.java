@@ -1,42 +1,77 @@
 package com.kamatos.codegenvalidationdemo.validation.constraint;
 
+import com.kamatos.codegenvalidationdemo.observability.Endpoint;
+import com.kamatos.codegenvalidationdemo.observability.ValidationMetrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
+import org.springframework.beans.factory.annotation.Autowired;
 
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 public class EmailConstraintValidator implements ConstraintValidator<ValidEmail, String> {
-    public static final Pattern NAME_LASTNAME_PATTERN =
-            Pattern.compile("^[A-Za-z]+\\.[A-Za-z]+@([A-Za-z0-9-]+\\.)+[A-Za-z]{2,}$");
+    private final EmailRulesEvaluator emailRulesEvaluator;
+    private final ValidationMetrics validationMetrics;
+    private final Map<Endpoint, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Used outside of Spring, checks against the default blocked domains only and records no metrics.
+     */
+    public EmailConstraintValidator() {
+        this(EmailRulesEvaluator.defaults(), ValidationMetrics.disabled());
+    }
+
+    @Autowired
+    public EmailConstraintValidator(EmailRulesEvaluator emailRulesEvaluator, ValidationMetrics validationMetrics) {
+        this.emailRulesEvaluator = emailRulesEvaluator;
+        this.validationMetrics = validationMetrics;
+    }
 
     @Override
     public boolean isValid(String value, ConstraintValidatorContext ctx) {
         // If you want @NotBlank to handle null/blank, return true here and rely on @NotBlank separately.
         if (value == null || value.isBlank()) return true;
 
-        boolean ok = true;
+        // Over-length input is reported by the @Size of the parameter, only a blocked domain is added to it
+        int violations = check(value) & ~EmailRules.LENGTH_EXCEEDED;
+        if (violations == EmailRules.VALID) return true;
+
         ctx.disableDefaultConstraintViolation();
 
         // Rule 1: must match name.lastname@domain
-        if (!NAME_LASTNAME_PATTERN.matcher(value).matches()) {
-            ctx.buildConstraintViolationWithTemplate("email.format.name_lastname_required")
+        if ((violations & EmailRules.FORMAT_VIOLATION) != 0) {
+            ctx.buildConstraintViolationWithTemplate(EmailRules.FORMAT_CODE)
                     .addConstraintViolation();
-            ok = false;
         }
 
-        // Rule 2: domain must NOT be test.com
-        String domain = extractDomain(value);
-        if ("test.com".equalsIgnoreCase(domain)) {
-            ctx.buildConstraintViolationWithTemplate("email.domain.blocked")
+        // Rule 2: domain must NOT be blocked
+        if ((violations & EmailRules.DOMAIN_BLOCKED) != 0) {
+            ctx.buildConstraintViolationWithTemplate(EmailRules.DOMAIN_BLOCKED_CODE)
                     .addConstraintViolation();
-            ok = false;
         }
 
-        return ok;
+        return false;
     }
 
-    private static String extractDomain(String email) {
-        int at = email.lastIndexOf('@');
-        return at >= 0 ? email.substring(at + 1) : "";
+    private int check(String value) {
+        if (!validationMetrics.isEnabled()) {
+            return emailRulesEvaluator.check(value);
+        }
+
+        long start = System.nanoTime();
+        int violations = emailRulesEvaluator.check(value);
+        timer(Endpoint.current()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return violations;
+    }
+
+    private Timer timer(Endpoint endpoint) {
+        Timer timer = timers.get(endpoint);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(endpoint,
+                    key -> validationMetrics.constraintTimer(EmailConstraintValidator.class, key));
+        }
+        return timer;
     }
 }
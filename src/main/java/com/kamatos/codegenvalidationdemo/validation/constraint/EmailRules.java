@@ -0,0 +1,118 @@
+package com.kamatos.codegenvalidationdemo.validation.constraint;
+
+import com.kamatos.codegenvalidationdemo.validation.blocklist.BlockedDomains;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Single pass scanner for the email rules. Checks the `name.lastname@domain` shape and the blocked domain rule
+ * without regular expressions and without allocating, so the cost stays linear in the length of the input
+ * whatever the input looks like.
+ */
+@UtilityClass
+public final class EmailRules {
+    public static final String FORMAT_CODE = "email.format.name_lastname_required";
+    public static final String DOMAIN_BLOCKED_CODE = "email.domain.blocked";
+
+    /**
+     * Longest valid address (RFC 5321), longer input isn't scanned for the format rule, see {@link #LENGTH_EXCEEDED}.
+     */
+    public static final int MAX_LENGTH = 254;
+
+    public static final int VALID = 0;
+    public static final int FORMAT_VIOLATION = 1;
+    public static final int DOMAIN_BLOCKED = 1 << 1;
+    /**
+     * Input over {@link #MAX_LENGTH}. Not reported as a format violation, the spec bounds every email with a
+     * `maxLength` of at most {@link #MAX_LENGTH}, so `Size.&lt;field&gt;` already reports it.
+     */
+    public static final int LENGTH_EXCEEDED = 1 << 2;
+
+    private static final int NAME_START = 0;
+    private static final int NAME = 1;
+    private static final int LASTNAME_START = 2;
+    private static final int LASTNAME = 3;
+    private static final int DOMAIN = 4;
+    private static final int INVALID = 5;
+
+    /**
+     * Returns a bit set of {@link #FORMAT_VIOLATION} and {@link #DOMAIN_BLOCKED}, or {@link #VALID}. The format rule
+     * is equivalent to `^[A-Za-z]+\.[A-Za-z]+@([A-Za-z0-9-]+\.)+[A-Za-z]{2,}$`, the domain rule compares everything
+     * after the last `@` with the {@link BlockedDomains#DEFAULT default} blocked domains.
+     */
+    public static int check(String email) {
+        return check(email, BlockedDomains.DEFAULT);
+    }
+
+    /**
+     * Same as {@link #check(String)}, with the domain looked up in the given blocked domains.
+     */
+    public static int check(String email, BlockedDomains blockedDomains) {
+        int length = email.length();
+        int state = NAME_START;
+        int lastAt = -1;
+        int domainDots = 0;
+        int labelLength = 0;
+        boolean labelLetters = true;
+
+        for (int i = 0; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                lastAt = i;
+            }
+
+            switch (state) {
+                case NAME_START -> state = isLetter(c) ? NAME : INVALID;
+                case NAME -> state = isLetter(c) ? NAME : c == '.' ? LASTNAME_START : INVALID;
+                case LASTNAME_START -> state = isLetter(c) ? LASTNAME : INVALID;
+                case LASTNAME -> state = isLetter(c) ? LASTNAME : c == '@' ? DOMAIN : INVALID;
+                case DOMAIN -> {
+                    if (c == '.') {
+                        if (labelLength == 0) {
+                            state = INVALID;
+                        }
+                        domainDots++;
+                        labelLength = 0;
+                        labelLetters = true;
+                    } else if (isLetter(c)) {
+                        labelLength++;
+                    } else if (isDigit(c) || c == '-') {
+                        labelLength++;
+                        labelLetters = false;
+                    } else {
+                        state = INVALID;
+                    }
+                }
+                default -> {
+                    // Shape is already broken, only the position of the last '@' is still of interest
+                }
+            }
+        }
+
+        int result = VALID;
+        boolean formatValid = state == DOMAIN && domainDots > 0 && labelLength >= 2 && labelLetters;
+        if (!formatValid) {
+            result |= FORMAT_VIOLATION;
+        }
+        if (lastAt >= 0 && blockedDomains.isBlocked(email, lastAt + 1, length)) {
+            result |= DOMAIN_BLOCKED;
+        }
+        return result;
+    }
+
+    /**
+     * Only the domain rule: {@link #DOMAIN_BLOCKED} or {@link #VALID}. Looks at the characters after the last `@` and
+     * nothing else, so it stays cheap for input too long for the format rule.
+     */
+    public static int checkDomain(String email, BlockedDomains blockedDomains) {
+        int lastAt = email.lastIndexOf('@');
+        return lastAt >= 0 && blockedDomains.isBlocked(email, lastAt + 1, email.length()) ? DOMAIN_BLOCKED : VALID;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
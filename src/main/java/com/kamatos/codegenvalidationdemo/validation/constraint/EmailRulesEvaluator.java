@@ -0,0 +1,68 @@
+package com.kamatos.codegenvalidationdemo.validation.constraint;
+
+import com.kamatos.codegenvalidationdemo.validation.blocklist.BlockedDomains;
+import com.kamatos.codegenvalidationdemo.validation.blocklist.BlockedDomainsProvider;
+import com.kamatos.codegenvalidationdemo.validation.cache.ValidationOutcomeCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies the {@link EmailRules} with the current blocked domains, going through the {@link ValidationOutcomeCache}
+ * when it's enabled. Shared by the request body validators and the `@ValidEmail` constraint, so both use the same
+ * cached outcomes.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailRulesEvaluator {
+    static final String CACHE_NAME = "email";
+
+    private final BlockedDomainsProvider blockedDomainsProvider;
+    private final ValidationOutcomeCache validationOutcomeCache;
+
+    /**
+     * Default blocked domains and no caching, for use outside of Spring.
+     */
+    public static EmailRulesEvaluator defaults() {
+        return new EmailRulesEvaluator(new BlockedDomainsProvider(""), ValidationOutcomeCache.disabled());
+    }
+
+    /**
+     * Input longer than {@link EmailRules#MAX_LENGTH} is {@link EmailRules#LENGTH_EXCEEDED} and only checked against the
+     * blocked domains, without the format scan or the cache, so the work per value stays bounded whatever its length
+     * and a blocked domain is still reported next to the size error.
+     *
+     * @see EmailRules#check(String, BlockedDomains)
+     */
+    public int check(String email) {
+        if (email.length() > EmailRules.MAX_LENGTH) {
+            return EmailRules.LENGTH_EXCEEDED | EmailRules.checkDomain(email, blockedDomainsProvider.current());
+        }
+
+        BlockedDomains blockedDomains = blockedDomainsProvider.current();
+        if (!validationOutcomeCache.isEnabled()) {
+            return EmailRules.check(email, blockedDomains);
+        }
+        return validationOutcomeCache.get(CACHE_NAME, blockedDomains.version(), normalize(email),
+                value -> EmailRules.check(value, blockedDomains));
+    }
+
+    /*
+    Both rules ignore ASCII case, so lower casing doesn't change the outcome. The common already lower cased input is
+    returned as is.
+     */
+    static String normalize(String email) {
+        for (int i = 0; i < email.length(); i++) {
+            char c = email.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                char[] chars = email.toCharArray();
+                for (int j = i; j < chars.length; j++) {
+                    if (chars[j] >= 'A' && chars[j] <= 'Z') {
+                        chars[j] += 'a' - 'A';
+                    }
+                }
+                return new String(chars);
+            }
+        }
+        return email;
+    }
+}
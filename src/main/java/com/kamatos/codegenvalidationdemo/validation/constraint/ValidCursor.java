@@ -0,0 +1,28 @@
+package com.kamatos.codegenvalidationdemo.validation.constraint;
+
+import com.kamatos.codegenvalidationdemo.controller.ItemCursor;
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Pagination cursor produced by {@link ItemCursor#encode}, checked with the other parameters so that an invalid
+ * cursor is reported together with their errors.
+ */
+@Documented
+@Constraint(validatedBy = CursorConstraintValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidCursor {
+
+    String message() default ItemCursor.INVALID_CODE;
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,18 @@
+package com.kamatos.codegenvalidationdemo.validation.rules;
+
+/**
+ * Compiled rule of a single field, see {@link RuleCompiler}.
+ */
+abstract class Rule {
+    final String field;
+    final String code;
+    final String message;
+
+    Rule(String field, String code, String message) {
+        this.field = field;
+        this.code = code;
+        this.message = message;
+    }
+
+    abstract boolean isViolated(Object target);
+}
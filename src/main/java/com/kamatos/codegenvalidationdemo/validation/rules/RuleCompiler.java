@@ -0,0 +1,212 @@
+package com.kamatos.codegenvalidationdemo.validation.rules;
+
+import com.kamatos.codegenvalidationdemo.validation.blocklist.BlockedDomains;
+import com.kamatos.codegenvalidationdemo.validation.constraint.EmailRules;
+import lombok.experimental.UtilityClass;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles {@link RuleDefinition}s into {@link ValidationRules}. Everything a rule needs is resolved once: fields are
+ * read through getters bound with {@link LambdaMetafactory} instead of reflection, patterns are compiled, deny-lists
+ * become case-aware sets or {@link BlockedDomains} tables. Evaluating a rule then allocates nothing.
+ */
+@UtilityClass
+public class RuleCompiler {
+    static final String MODEL_PACKAGE = "com.kamatos.codegenvalidationdemo.api.model";
+
+    private static final BlockedDomains NO_DOMAINS = BlockedDomains.of(List.of());
+
+    // Getters are shared between reloads, so each is only spun once
+    private static final Map<Method, Function<Object, String>> GETTERS = new ConcurrentHashMap<>();
+
+    /**
+     * @param definitions rules by the simple name of the model class in {@value #MODEL_PACKAGE}
+     * @throws IllegalArgumentException for unknown models, fields or rule types and for missing parameters
+     */
+    public static ValidationRules compile(Map<String, List<RuleDefinition>> definitions) {
+        Map<Class<?>, Rule[]> rulesByType = new HashMap<>();
+        definitions.forEach((model, modelDefinitions) -> {
+            Class<?> type = modelClass(model);
+            rulesByType.put(type, modelDefinitions.stream()
+                    .map(definition -> compile(type, definition))
+                    .toArray(Rule[]::new));
+        });
+        return new ValidationRules(rulesByType);
+    }
+
+    private static Rule compile(Class<?> type, RuleDefinition definition) {
+        String field = require(definition.field(), "field", definition);
+        String code = require(definition.code(), "code", definition);
+        String message = definition.message() != null ? definition.message() : code;
+        Function<Object, String> getter = getter(type, field);
+
+        Rule rule = switch (require(definition.type(), "type", definition)) {
+            case "required" -> new Rule(field, code, message) {
+                @Override
+                boolean isViolated(Object target) {
+                    return getter.apply(target) == null;
+                }
+            };
+            case "notEquals" -> {
+                String value = require(definition.value(), "value", definition);
+                boolean ignoreCase = definition.ignoreCase();
+                yield new Rule(field, code, message) {
+                    @Override
+                    boolean isViolated(Object target) {
+                        String actual = getter.apply(target);
+                        return actual != null && (ignoreCase ? value.equalsIgnoreCase(actual) : value.equals(actual));
+                    }
+                };
+            }
+            case "notIn" -> {
+                Set<String> values = definition.ignoreCase()
+                        ? new TreeSet<>(String.CASE_INSENSITIVE_ORDER) : new HashSet<>();
+                values.addAll(require(definition.values(), "values", definition));
+                yield new Rule(field, code, message) {
+                    @Override
+                    boolean isViolated(Object target) {
+                        String actual = getter.apply(target);
+                        return actual != null && values.contains(actual);
+                    }
+                };
+            }
+            case "domainNotIn" -> {
+                BlockedDomains domains = BlockedDomains.of(require(definition.values(), "values", definition));
+                yield new Rule(field, code, message) {
+                    @Override
+                    boolean isViolated(Object target) {
+                        String actual = getter.apply(target);
+                        return actual != null && domains.isBlocked(actual, actual.lastIndexOf('@') + 1, actual.length());
+                    }
+                };
+            }
+            case "length" -> {
+                int min = definition.min() != null ? definition.min() : 0;
+                int max = definition.max() != null ? definition.max() : Integer.MAX_VALUE;
+                yield new Rule(field, code, message) {
+                    @Override
+                    boolean isViolated(Object target) {
+                        String actual = getter.apply(target);
+                        return actual != null && (actual.length() < min || actual.length() > max);
+                    }
+                };
+            }
+            case "pattern" -> {
+                Pattern pattern = Pattern.compile(require(definition.pattern(), "pattern", definition));
+                yield new Rule(field, code, message) {
+                    @Override
+                    boolean isViolated(Object target) {
+                        String actual = getter.apply(target);
+                        return actual != null && !pattern.matcher(actual).matches();
+                    }
+                };
+            }
+            case "emailFormat" -> new Rule(field, code, message) {
+                @Override
+                boolean isViolated(Object target) {
+                    String actual = getter.apply(target);
+                    return actual != null && (actual.length() > EmailRules.MAX_LENGTH
+                            || (EmailRules.check(actual, NO_DOMAINS) & EmailRules.FORMAT_VIOLATION) != 0);
+                }
+            };
+            case "notEqualsField" -> {
+                Function<Object, String> other = getter(type, require(definition.otherField(), "otherField", definition));
+                boolean ignoreCase = definition.ignoreCase();
+                yield new Rule(field, code, message) {
+                    @Override
+                    boolean isViolated(Object target) {
+                        String actual = getter.apply(target);
+                        String otherValue = other.apply(target);
+                        return actual != null && otherValue != null
+                                && (ignoreCase ? actual.equalsIgnoreCase(otherValue) : actual.equals(otherValue));
+                    }
+                };
+            }
+            default -> throw new IllegalArgumentException("Unknown rule type " + definition.type() + " of " + definition);
+        };
+
+        return definition.when() == null ? rule : conditional(type, rule, definition.when(), definition);
+    }
+
+    private static Rule conditional(Class<?> type, Rule rule, RuleDefinition.Condition condition,
+                                    RuleDefinition definition) {
+        Function<Object, String> getter = getter(type, require(condition.field(), "when.field", definition));
+        String equals = condition.equals();
+        boolean ignoreCase = condition.ignoreCase();
+        Boolean present = condition.present();
+        if (equals == null && present == null) {
+            throw new IllegalArgumentException("Condition needs equals or present: " + definition);
+        }
+
+        return new Rule(rule.field, rule.code, rule.message) {
+            @Override
+            boolean isViolated(Object target) {
+                String value = getter.apply(target);
+                boolean applies = equals != null
+                        ? value != null && (ignoreCase ? equals.equalsIgnoreCase(value) : equals.equals(value))
+                        : present == (value != null);
+                return applies && rule.isViolated(target);
+            }
+        };
+    }
+
+    private static Class<?> modelClass(String model) {
+        try {
+            return Class.forName(MODEL_PACKAGE + "." + model);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unknown model " + model, e);
+        }
+    }
+
+    /*
+    Rules only apply to String properties, which are all properties of the request models.
+     */
+    private static Function<Object, String> getter(Class<?> type, String field) {
+        Method method;
+        try {
+            method = type.getMethod("get" + Character.toUpperCase(field.charAt(0)) + field.substring(1));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("Unknown field " + field + " of " + type.getSimpleName(), e);
+        }
+        if (method.getReturnType() != String.class) {
+            throw new IllegalArgumentException("Field " + field + " of " + type.getSimpleName() + " is not a string");
+        }
+        return GETTERS.computeIfAbsent(method, RuleCompiler::bind);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, String> bind(Method method) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    lookup.unreflect(method),
+                    MethodType.methodType(String.class, method.getDeclaringClass()));
+            return (Function<Object, String>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot bind " + method, e);
+        }
+    }
+
+    private static <T> T require(T value, String name, RuleDefinition definition) {
+        if (value == null) {
+            throw new IllegalArgumentException("Missing " + name + " in " + definition);
+        }
+        return value;
+    }
+}
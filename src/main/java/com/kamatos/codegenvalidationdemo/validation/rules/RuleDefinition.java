@@ -0,0 +1,41 @@
+package com.kamatos.codegenvalidationdemo.validation.rules;
+
+import java.util.List;
+
+/**
+ * A field rule as written in the rules file. Which of the parameters apply depends on the type:
+ * <ul>
+ *     <li>`required`: the field is not null</li>
+ *     <li>`notEquals`: the field differs from `value`</li>
+ *     <li>`notIn`: the field is none of `values`</li>
+ *     <li>`domainNotIn`: the part after the last `@` is none of `values`, `*.domain` entries match subdomains too</li>
+ *     <li>`length`: the field is between `min` and `max` characters long</li>
+ *     <li>`pattern`: the field matches the regular expression `pattern`</li>
+ *     <li>`emailFormat`: the field has the `name.lastname@domain` format of the email rules</li>
+ *     <li>`notEqualsField`: the field differs from the field `otherField`</li>
+ * </ul>
+ * Apart from `required`, rules pass on null fields, like bean validation constraints. With `when`, the rule only
+ * applies to objects meeting the condition on another field.
+ *
+ * @param code    error code, reported as `code.field`
+ * @param message default message of the error
+ */
+public record RuleDefinition(String field,
+                             String type,
+                             String code,
+                             String message,
+                             String value,
+                             List<String> values,
+                             Integer min,
+                             Integer max,
+                             String pattern,
+                             boolean ignoreCase,
+                             String otherField,
+                             Condition when) {
+
+    /**
+     * Condition on another field: it `equals` the given value, or is `present` (not null) or absent.
+     */
+    public record Condition(String field, String equals, Boolean present, boolean ignoreCase) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.kamatos.codegenvalidationdemo.validation.rules;
+
+import com.kamatos.codegenvalidationdemo.validation.ItemsControllerValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+
+/**
+ * Applies the configured {@link ValidationRules} to the request models. Supports every model once a rules file is
+ * configured, so rules added by a reload apply to chains which were built before. Each validation reads the current
+ * rules once and evaluates the whole chain against them.
+ */
+@Component
+@RequiredArgsConstructor
+public class RulesValidator implements ItemsControllerValidator {
+    private final ValidationRulesProvider validationRulesProvider;
+
+    @Override
+    public boolean supports(@NonNull Class<?> clazz) {
+        return validationRulesProvider.isConfigured() && RuleCompiler.MODEL_PACKAGE.equals(clazz.getPackageName());
+    }
+
+    @Override
+    public void validate(@NonNull Object target, @NonNull Errors errors) {
+        for (Rule rule : validationRulesProvider.current().rulesFor(target.getClass())) {
+            if (rule.isViolated(target)) {
+                errors.rejectValue(rule.field, rule.code, rule.message);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.kamatos.codegenvalidationdemo.validation.rules;
+
+import java.util.Map;
+
+/**
+ * Immutable set of compiled rules, one chain per model class.
+ */
+public final class ValidationRules {
+    public static final ValidationRules NONE = new ValidationRules(Map.of());
+
+    private static final Rule[] NO_RULES = new Rule[0];
+
+    private final Map<Class<?>, Rule[]> rulesByType;
+    private final int size;
+
+    ValidationRules(Map<Class<?>, Rule[]> rulesByType) {
+        this.rulesByType = Map.copyOf(rulesByType);
+        this.size = rulesByType.values().stream().mapToInt(rules -> rules.length).sum();
+    }
+
+    Rule[] rulesFor(Class<?> type) {
+        return rulesByType.getOrDefault(type, NO_RULES);
+    }
+
+    /**
+     * Number of rules over all model classes.
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,90 @@
+package com.kamatos.codegenvalidationdemo.validation.rules;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the current {@link ValidationRules}, compiled from the JSON file `validation.rules.file`: an object mapping
+ * the simple names of the model classes to their {@link RuleDefinition}s. Without a file there are no rules. The
+ * file is checked for changes periodically, the new rules are compiled in the background and swapped in at once, so
+ * requests never wait for a reload and each validation sees either the old or the new rules. A file which fails to
+ * load or compile keeps the current rules.
+ * <p>
+ * The file is read with its own mapper rather than the one of the requests: unknown properties fail the load, so a
+ * misspelled parameter doesn't silently drop a condition, and the stream read constraints of the request bodies
+ * don't limit the rules.
+ */
+@Slf4j
+@Component
+public class ValidationRulesProvider {
+    private static final TypeReference<Map<String, List<RuleDefinition>>> DEFINITIONS = new TypeReference<>() {
+    };
+    private static final ObjectReader READER = JsonMapper.builder()
+            .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build()
+            .readerFor(DEFINITIONS);
+
+    private final Path file;
+    private volatile ValidationRules current = ValidationRules.NONE;
+    private FileTime lastModified;
+
+    public ValidationRulesProvider(@Value("${validation.rules.file:}") String file) {
+        this.file = file.isBlank() ? null : Path.of(file);
+        if (this.file == null) {
+            return;
+        }
+
+        try {
+            load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load validation rules from " + file, e);
+        }
+    }
+
+    public boolean isConfigured() {
+        return file != null;
+    }
+
+    public ValidationRules current() {
+        return current;
+    }
+
+    @Scheduled(fixedDelayString = "${validation.rules.reload-interval:10s}")
+    public void reloadIfModified() {
+        if (file == null) {
+            return;
+        }
+
+        try {
+            if (!Files.getLastModifiedTime(file).equals(lastModified)) {
+                load();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Reloading validation rules from {} failed, keeping the current ones", file, e);
+        }
+    }
+
+    private synchronized void load() throws IOException {
+        // Read the timestamp first, a change made while loading is then picked up by the next check
+        FileTime modified = Files.getLastModifiedTime(file);
+        Map<String, List<RuleDefinition>> definitions = READER.readValue(file.toFile());
+        ValidationRules compiled = RuleCompiler.compile(definitions);
+        current = compiled;
+        lastModified = modified;
+        log.info("Loaded {} validation rules from {}", compiled.size(), file);
+    }
+}
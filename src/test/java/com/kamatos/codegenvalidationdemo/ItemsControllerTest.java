@@ -1,33 +1,45 @@
 package com.kamatos.codegenvalidationdemo;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kamatos.codegenvalidationdemo.api.model.CreateItemRequest;
+import com.kamatos.codegenvalidationdemo.api.model.ItemResponse;
 import com.kamatos.codegenvalidationdemo.api.model.UpdateItemRequest;
 import com.kamatos.codegenvalidationdemo.api.model.ValidatedUpdateItemRequest;
 import com.kamatos.codegenvalidationdemo.api.model.ValidationError;
 import com.kamatos.codegenvalidationdemo.api.model.ValidationErrorResponse;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultMatcher;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@SpringBootTest
+@SpringBootTest(properties = {"validation.metrics.enabled=true", "validation.cache.enabled=true"})
 @AutoConfigureMockMvc
 public class ItemsControllerTest {
     public static final String INVALID_NAME = "test";
@@ -38,8 +50,11 @@ public class ItemsControllerTest {
     @Autowired
     ObjectMapper objectMapper;
 
+    @Autowired
+    MeterRegistry meterRegistry;
+
     @Test
-    void createItem_WithValidRequest_ShouldReturnOk() throws Exception {
+    void createItem_WithValidRequest_ShouldReturnCreated() throws Exception {
         // Given
         CreateItemRequest request = new CreateItemRequest();
         request.setName("name");
@@ -49,7 +64,7 @@ public class ItemsControllerTest {
         mockMvc.perform(post("/api/items")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isOk());
+                .andExpect(status().isCreated());
     }
 
     /**
@@ -76,6 +91,206 @@ public class ItemsControllerTest {
                 .andExpectAll(errorMatcher(1, "nonTest.name", "Name cannot be Test"));
     }
 
+    /**
+     * Validators and reported error codes are measured per endpoint.
+     */
+    @Test
+    void createItem_WithTestName_ShouldRecordValidationMetrics() throws Exception {
+        // Given
+        CreateItemRequest request = new CreateItemRequest();
+        request.setName(INVALID_NAME);
+        request.setEmail("my.email@domain.com");
+
+        // When
+        mockMvc.perform(post("/api/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        // Then
+        assertThat(meterRegistry.get("validation.errors")
+                .tags("code", "nonTest.name", "method", "POST", "uri", "/api/items").counter().count())
+                .isPositive();
+        assertThat(meterRegistry.get("validation.validator")
+                .tags("validator", "CreateItemRequestValidator", "uri", "/api/items").timer().count())
+                .isPositive();
+        assertThat(meterRegistry.get("validation.error.rendering")
+                .tags("handler", "handleMethodArgumentException").timer().count())
+                .isPositive();
+    }
+
+    /**
+     * Spec constraints are checked by the validators generated from the OpenAPI spec, with the same error codes and
+     * messages bean validation produces for them.
+     */
+    @Test
+    void createItem_WithEmptyName_ShouldReturnBadRequest_GeneratedSchemaValidation() throws Exception {
+        // Given
+        CreateItemRequest request = new CreateItemRequest();
+        request.setName("");
+        request.setEmail("my.email@domain.com");
+
+        // When & Then
+        mockMvc.perform(post("/api/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpectAll(errorMatcher(0, "Size.name", "size must be between 1 and 30"));
+    }
+
+    /**
+     * Request bodies and the `@ValidEmail` parameters are checked against the same blocked domains.
+     */
+    @Test
+    void createItem_WithBlockedEmailDomain_ShouldReturnBadRequest() throws Exception {
+        // Given
+        CreateItemRequest request = new CreateItemRequest();
+        request.setName("name");
+        request.setEmail("my.email@TEST.com");
+
+        // When & Then
+        mockMvc.perform(post("/api/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpectAll(errorMatcher(0, "domain.blocked.email", "Email domain is blocked"));
+    }
+
+    @Test
+    void createItem_WithOversizedString_ShouldBeRejectedWhileParsing() throws Exception {
+        String body = "{\"name\": \"" + "a".repeat(10_000) + "\", \"email\": \"my.email@domain.com\"}";
+
+        mockMvc.perform(post("/api/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].code").value("request.limit_exceeded"));
+    }
+
+    /**
+     * A value over the `maxLength` of its property fails the parse with the error the schema validator would report.
+     */
+    @Test
+    void createItem_WithNameOverMaxLength_ShouldBeRejectedWhileParsing() throws Exception {
+        String body = "{\"name\": \"" + "a".repeat(31) + "\", \"email\": \"not an email\"}";
+
+        mockMvc.perform(post("/api/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpectAll(errorMatcher(0, "Size.name", "size must be between 1 and 30"));
+    }
+
+    @Test
+    void createItem_WithBodyOverSizeLimit_ShouldReturnBadRequest() throws Exception {
+        String body = "{\"name\": \"name\", \"email\": \"my.email@domain.com\"}" + " ".repeat(70_000);
+
+        mockMvc.perform(post("/api/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpectAll(errorMatcher(0, "request.body.too_large", "Request body exceeds 65536 bytes"));
+    }
+
+    /**
+     * A declared `Content-Length` over the limit is rejected before the body is read, rendered like every other error.
+     */
+    @Test
+    void createItem_WithContentLengthOverSizeLimitAndGermanLocale_ShouldReturnLocalizedMessage() throws Exception {
+        String body = "{\"name\": \"name\", \"email\": \"my.email@domain.com\"}" + " ".repeat(70_000);
+
+        mockMvc.perform(post("/api/items")
+                        .header(HttpHeaders.ACCEPT_LANGUAGE, "de")
+                        .header(HttpHeaders.CONTENT_LENGTH, body.length())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpectAll(errorMatcher(0, "request.body.too_large", "Anfrage überschreitet 65536 Bytes"));
+    }
+
+    @Test
+    void validatedUpdateItem_WithTooLongEmail_ShouldReturnBadRequest() throws Exception {
+        // Given
+        var request = new ValidatedUpdateItemRequest();
+        request.setName("name");
+        request.setEmail("a.b@" + "x".repeat(300) + ".com");
+
+        // When & Then
+        mockMvc.perform(patch("/api/items/{id}", UUID.randomUUID().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[*].code", hasItem("Size.email")));
+    }
+
+    /**
+     * Every element of a streamed batch is validated with the same rules as a single create request and gets its own
+     * result line, with all errors of the element.
+     */
+    @Test
+    void createItemsBatch_WithNdjson_ShouldReturnResultPerElement() throws Exception {
+        String body = String.join("\n",
+                "{\"name\": \"name\", \"email\": \"my.email@domain.com\"}",
+                "{\"name\": \"test\"}",
+                "{\"name\": \"other\", \"email\": \"other.email@domain.com\"}");
+
+        String content = mockMvc.perform(post("/api/items/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse().getContentAsString();
+
+        List<BatchResult> results = content.lines().map(this::readBatchResult).toList();
+        assertThat(results).containsExactly(
+                new BatchResult(0, null),
+                new BatchResult(1, List.of(
+                        new ValidationError().code("NotNull.email").message("must not be null"),
+                        new ValidationError().code("nonTest.name").message("Name cannot be Test"))),
+                new BatchResult(2, null));
+    }
+
+    @Test
+    void createItemsBatch_WithMalformedJsonArray_ShouldStopAtMalformedElement() throws Exception {
+        String body = "[{\"name\": \"test\", \"email\": \"my.email@domain.com\"}, {\"name\": ";
+
+        String content = mockMvc.perform(post("/api/items/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse().getContentAsString();
+
+        List<BatchResult> results = content.lines().map(this::readBatchResult).toList();
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).errors()).extracting(ValidationError::getCode).containsExactly("nonTest.name");
+        assertThat(results.get(1).errors()).extracting(ValidationError::getCode).containsExactly("batch.malformed");
+    }
+
+    @Test
+    void createItemsBatch_WithNameOverMaxLength_ShouldContinueAfterElement() throws Exception {
+        String body = "[{\"name\": \"" + "a".repeat(31) + "\", \"email\": \"my.email@domain.com\"},"
+                + " {\"name\": \"name\", \"email\": \"my.email@domain.com\"}]";
+
+        String content = mockMvc.perform(post("/api/items/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse().getContentAsString();
+
+        List<BatchResult> results = content.lines().map(this::readBatchResult).toList();
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).errors()).extracting(ValidationError::getCode).containsExactly("Size.name");
+        assertThat(results.get(1).errors()).isNull();
+    }
+
     @Test
     void getItems_WithCustomConstraintOnEmail_ShouldReturnBadRequest() throws Exception {
         String content = mockMvc.perform(get("/api/items").param("email", "dummy@test.com"))
@@ -85,14 +300,206 @@ public class ItemsControllerTest {
 
         ValidationErrorResponse response = objectMapper.readValue(content, ValidationErrorResponse.class);
         List<ValidationError> expectedErrors = List.of(
-                new ValidationError().code("email.format.name_lastname_required").message("email.format.name_lastname_required"),
-                new ValidationError().code("email.domain.blocked").message("email.domain.blocked")
+                new ValidationError().code("email.format.name_lastname_required")
+                        .message("Email must be in format 'name.lastname@domain'"),
+                new ValidationError().code("email.domain.blocked").message("Email domain is blocked")
         );
         assertThat(response.getErrors()).isNotNull()
                 .hasSize(2)
                 .containsExactlyInAnyOrderElementsOf(expectedErrors);
     }
 
+    @Test
+    void getItems_WithOverLengthEmailOnBlockedDomain_ShouldReturnSizeAndDomainErrors() throws Exception {
+        String email = "a".repeat(300) + "@test.com";
+
+        mockMvc.perform(get("/api/items").param("email", email))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[*].code", containsInAnyOrder("Size.email", "email.domain.blocked")));
+    }
+
+    /**
+     * Messages follow the `Accept-Language` of the request, codes stay the same in every locale.
+     */
+    @Test
+    void getItems_WithGermanLocale_ShouldReturnLocalizedMessages() throws Exception {
+        mockMvc.perform(get("/api/items").param("email", "dummy@test.com")
+                        .header(HttpHeaders.ACCEPT_LANGUAGE, "de-DE,de;q=0.9"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors", hasSize(2)))
+                .andExpect(jsonPath("$.errors[*].message", containsInAnyOrder(
+                        "E-Mail-Adresse muss das Format 'vorname.nachname@domain' haben",
+                        "E-Mail-Domain ist gesperrt")));
+
+        CreateItemRequest request = new CreateItemRequest();
+        request.setName(INVALID_NAME);
+        mockMvc.perform(post("/api/items")
+                        .header(HttpHeaders.ACCEPT_LANGUAGE, "de")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpectAll(errorMatcher(0, "NotNull.email", "darf nicht null sein"))
+                .andExpectAll(errorMatcher(1, "nonTest.name", "Name darf nicht Test sein"));
+    }
+
+    /**
+     * Size messages of the generated schema validators are localized with the limits of the constraint.
+     */
+    @Test
+    void createItem_WithEmptyNameAndGermanLocale_ShouldReturnLocalizedSizeMessage() throws Exception {
+        CreateItemRequest request = new CreateItemRequest();
+        request.setName("");
+        request.setEmail("my.email@domain.com");
+
+        mockMvc.perform(post("/api/items")
+                        .header(HttpHeaders.ACCEPT_LANGUAGE, "de")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpectAll(errorMatcher(0, "Size.name", "Größe muss zwischen 1 und 30 sein"));
+    }
+
+    /**
+     * CBOR bodies go through the same binding and validators as JSON, requests and responses only differ in encoding.
+     */
+    @Test
+    void createItem_WithCbor_ShouldValidateLikeJson() throws Exception {
+        CBORMapper cborMapper = new CBORMapper();
+
+        MockHttpServletResponse created = mockMvc.perform(post("/api/items")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(new CreateItemRequest().name("name").email("my.email@domain.com"))))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse();
+        assertThat(cborMapper.readValue(created.getContentAsByteArray(), ItemResponse.class).getName()).isEqualTo("name");
+
+        MockHttpServletResponse rejected = mockMvc.perform(post("/api/items")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(new CreateItemRequest().name(INVALID_NAME))))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse();
+        assertThat(cborMapper.readValue(rejected.getContentAsByteArray(), ValidationErrorResponse.class).getErrors())
+                .containsExactly(
+                        new ValidationError().code("NotNull.email").message("must not be null"),
+                        new ValidationError().code("nonTest.name").message("Name cannot be Test"));
+    }
+
+    @Test
+    void validatedUpdateItem_WithSmile_ShouldValidateLikeJson() throws Exception {
+        SmileMapper smileMapper = new SmileMapper();
+        MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+
+        MockHttpServletResponse rejected = mockMvc.perform(patch("/api/items/{id}", UUID.randomUUID().toString())
+                        .contentType(smile)
+                        .accept(smile)
+                        .content(smileMapper.writeValueAsBytes(new ValidatedUpdateItemRequest().name(INVALID_NAME))))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(smile))
+                .andReturn().getResponse();
+        assertThat(smileMapper.readValue(rejected.getContentAsByteArray(), ValidationErrorResponse.class).getErrors())
+                .extracting(ValidationError::getCode)
+                .containsExactlyInAnyOrder("NotNull.email", "nonTest.name");
+
+        MockHttpServletResponse paramRejected = mockMvc.perform(get("/api/items").param("email", "dummy@test.com")
+                        .accept(smile))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(smile))
+                .andReturn().getResponse();
+        assertThat(smileMapper.readValue(paramRejected.getContentAsByteArray(), ValidationErrorResponse.class).getErrors())
+                .extracting(ValidationError::getCode)
+                .containsExactlyInAnyOrder("email.format.name_lastname_required", "email.domain.blocked");
+    }
+
+    @Test
+    void getItems_WithLimit_ShouldFollowCursorThroughAllPages() throws Exception {
+        // Given
+        List<UUID> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(createItem("page.owner@paging.com").getId());
+        }
+
+        // When
+        List<UUID> read = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MockHttpServletResponse response = mockMvc.perform(get("/api/items")
+                            .param("email", "page.owner@paging.com")
+                            .param("limit", "2")
+                            .param("cursor", cursor))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse();
+            List<ItemResponse> page = objectMapper.readValue(response.getContentAsString(), new TypeReference<>() {
+            });
+            assertThat(page).hasSizeLessThanOrEqualTo(2);
+            page.forEach(item -> read.add(item.getId()));
+            cursor = response.getHeader("X-Next-Cursor");
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        assertThat(pages).isEqualTo(3);
+        assertThat(read).containsExactlyElementsOf(created.stream().sorted().toList());
+    }
+
+    @Test
+    void getItems_WithInvalidCursor_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/items").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpectAll(errorMatcher(0, "cursor.invalid", "Cursor is not valid"));
+    }
+
+    @Test
+    void getItems_WithInvalidCursorAndInvalidEmail_ShouldReturnAllErrors() throws Exception {
+        mockMvc.perform(get("/api/items").param("cursor", "not-a-cursor").param("email", "dummy@domain.com"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[*].code", containsInAnyOrder(
+                        "cursor.invalid", "email.format.name_lastname_required")));
+
+        mockMvc.perform(get("/api/items/stream").param("cursor", "not-a-cursor").param("email", "dummy@domain.com"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[*].code", containsInAnyOrder(
+                        "cursor.invalid", "email.format.name_lastname_required")));
+    }
+
+    @Test
+    void streamItems_ShouldWriteItemPerLineAfterCursor() throws Exception {
+        // Given
+        List<UUID> created = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            created.add(createItem("stream.owner@streaming.com").getId());
+        }
+        created.sort(null);
+        String cursor = mockMvc.perform(get("/api/items")
+                        .param("email", "stream.owner@streaming.com")
+                        .param("limit", "1"))
+                .andReturn().getResponse().getHeader("X-Next-Cursor");
+
+        // When
+        String content = mockMvc.perform(get("/api/items/stream")
+                        .param("email", "Stream.Owner@streaming.com")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        List<UUID> streamed = content.lines().map(line -> readValue(line, ItemResponse.class).getId()).toList();
+        assertThat(streamed).containsExactlyElementsOf(created.subList(1, 3));
+    }
+
+    @Test
+    void streamItems_WithCustomConstraintOnEmail_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/items/stream").param("email", "dummy@test.com"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors", hasSize(2)));
+    }
+
     @Test
     void updateItem_ShowcaseSeparatedValidations_NullEmail_ShouldReturnBadRequest_OnlyOneError() throws Exception {
         // Given
@@ -140,6 +547,97 @@ public class ItemsControllerTest {
                 .andExpectAll(errorMatcher(1, "nonTest.name", "Name cannot be Test"));
     }
 
+    @Test
+    void updateItem_ExistingItem_ShouldBeFoundByNewEmail() throws Exception {
+        // Given
+        ItemResponse created = createItem("first.owner@domain.com");
+        var request = new UpdateItemRequest();
+        request.setName("renamed");
+        request.setEmail("second.owner@domain.com");
+
+        // When
+        mockMvc.perform(put("/api/items/{id}", created.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("renamed"));
+
+        // Then
+        mockMvc.perform(get("/api/items").param("email", "Second.Owner@domain.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(created.getId().toString()));
+        mockMvc.perform(get("/api/items").param("email", "first.owner@domain.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void validatedUpdateItem_UnknownItem_ShouldReturnNotFound() throws Exception {
+        // Given
+        var request = new ValidatedUpdateItemRequest();
+        request.setName("name");
+        request.setEmail("my.email@domain.com");
+
+        // When & Then
+        mockMvc.perform(patch("/api/items/{id}", UUID.randomUUID().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * The readiness probe reports the application ready once the warm-up has completed.
+     */
+    @Test
+    void readinessProbe_AfterWarmUp_ShouldBeUp() throws Exception {
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+    }
+
+    @Test
+    void validationOutcomeCache_AfterRepeatedEmail_ShouldExposeHitsUnderActuatorMetrics() throws Exception {
+        createItem("cached.email@domain.com");
+        createItem("cached.email@domain.com");
+
+        mockMvc.perform(get("/actuator/metrics/cache.gets")
+                        .param("tag", "cache:validationOutcomes", "result:hit"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value").value(greaterThanOrEqualTo(1.0)));
+        mockMvc.perform(get("/actuator/metrics/cache.size")
+                        .param("tag", "cache:validationOutcomes"))
+                .andExpect(status().isOk());
+    }
+
+    private ItemResponse createItem(String email) throws Exception {
+        CreateItemRequest request = new CreateItemRequest();
+        request.setName("name");
+        request.setEmail(email);
+
+        String content = mockMvc.perform(post("/api/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(content, ItemResponse.class);
+    }
+
+    private BatchResult readBatchResult(String line) {
+        return readValue(line, BatchResult.class);
+    }
+
+    private <T> T readValue(String line, Class<T> type) {
+        try {
+            return objectMapper.readValue(line, type);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    record BatchResult(long index, List<ValidationError> errors) {
+    }
+
     private static ResultMatcher[] errorMatcher(int index, String code, String message) {
         return new ResultMatcher[]{
                 jsonPath(format("$.errors[%s].code", index)).value(code),
@@ -0,0 +1,51 @@
+package com.kamatos.codegenvalidationdemo.config;
+
+import com.kamatos.codegenvalidationdemo.exception.RequestBodyTooLargeException;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.FileCopyUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestSizeLimitFilterTest {
+    private final RequestSizeLimitFilter filter = new RequestSizeLimitFilter(
+            new RequestLimits(DataSize.ofBytes(16), Map.of(), 1024, 64, 16, 32));
+
+    @Test
+    void getReader_BodyWithinLimit_ShouldReadWholeBody() throws Exception {
+        AtomicReference<String> body = new AtomicReference<>();
+
+        filter.doFilter(request("{\"name\":\"Jörg\"}", false), new MockHttpServletResponse(),
+                (FilterChain) (request, response) -> body.set(FileCopyUtils.copyToString(request.getReader())));
+
+        assertThat(body).hasValue("{\"name\":\"Jörg\"}");
+    }
+
+    @Test
+    void getReader_ChunkedBodyOverLimit_ShouldFailOncePastLimit() {
+        assertThatThrownBy(() -> filter.doFilter(request("{\"name\":\"" + "a".repeat(100) + "\"}", true),
+                new MockHttpServletResponse(),
+                (FilterChain) (request, response) -> FileCopyUtils.copyToString(request.getReader())))
+                .isInstanceOf(RequestBodyTooLargeException.class);
+    }
+
+    private static MockHttpServletRequest request(String body, boolean chunked) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/items") {
+            @Override
+            public long getContentLengthLong() {
+                return chunked ? -1 : super.getContentLengthLong();
+            }
+        };
+        request.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
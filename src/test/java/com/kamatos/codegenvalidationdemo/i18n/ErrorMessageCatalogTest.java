@@ -0,0 +1,49 @@
+package com.kamatos.codegenvalidationdemo.i18n;
+
+import com.kamatos.codegenvalidationdemo.api.model.ValidationError;
+import com.kamatos.codegenvalidationdemo.exception.ParameterizedValidationError;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorMessageCatalogTest {
+    private final ErrorMessageCatalog catalog = new ErrorMessageCatalog(List.of(Locale.ENGLISH, Locale.GERMAN));
+
+    @Test
+    void resolve_ShouldMatchLanguage_OrFallBackToDefault() {
+        assertThat(catalog.resolve(Locale.GERMANY)).isEqualTo(Locale.GERMAN);
+        assertThat(catalog.resolve(Locale.FRENCH)).isEqualTo(Locale.ENGLISH);
+        assertThat(catalog.resolve(null)).isEqualTo(Locale.ENGLISH);
+    }
+
+    @Test
+    void localize_ShouldReplaceKnownCodes_AndKeepListWithoutChanges() {
+        List<ValidationError> errors = List.of(
+                new ValidationError().code("nonTest.name").message("Name cannot be Test"),
+                new ValidationError().code("unknown").message("Unknown"));
+
+        assertThat(catalog.localize(errors, Locale.ENGLISH)).isSameAs(errors);
+        assertThat(catalog.localize(errors, Locale.GERMANY))
+                .extracting(ValidationError::getMessage)
+                .containsExactly("Name darf nicht Test sein", "Unknown");
+        assertThat(catalog.message("nonTest.name", Locale.GERMAN)).isEqualTo("Name darf nicht Test sein");
+        assertThat(catalog.message("unknown", Locale.GERMAN)).isNull();
+    }
+
+    @Test
+    void localize_ShouldFillTemplatesWithArguments_OnlyForErrorsWithArguments() {
+        ValidationError size = new ParameterizedValidationError("Size.name", "size must be between 1 and 30",
+                new Object[]{"name", 30, 1});
+        List<ValidationError> errors = List.of(size,
+                new ValidationError().code("Size.email").message("size must be between 0 and 254"));
+
+        assertThat(catalog.localize(errors, Locale.ENGLISH)).isSameAs(errors);
+        assertThat(catalog.localize(errors, Locale.GERMAN))
+                .extracting(ValidationError::getMessage)
+                .containsExactly("Größe muss zwischen 1 und 30 sein", "size must be between 0 and 254");
+        assertThat(catalog.message("Size.name", Locale.GERMAN)).isNull();
+    }
+}
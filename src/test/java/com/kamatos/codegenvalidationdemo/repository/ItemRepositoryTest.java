@@ -0,0 +1,141 @@
+package com.kamatos.codegenvalidationdemo.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemRepositoryTest {
+    @Test
+    void update_ConcurrentWrites_ShouldKeepEmailIndexConsistent() throws Exception {
+        ItemRepository repository = new ItemRepository("", 100_000, false);
+        List<Item> created = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            created.add(repository.create("name", "owner" + (i % 10) + "@domain.com"));
+        }
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        Item item = created.get((i * 7 + offset) % created.size());
+                        repository.update(item.id(), "name", "owner" + ((i + offset) % 10) + "@domain.com");
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        int indexed = 0;
+        for (int i = 0; i < 10; i++) {
+            String email = "owner" + i + "@domain.com";
+            List<Item> items = repository.findByEmail(email.toUpperCase());
+            assertThat(items).allMatch(item -> item.email().equals(email));
+            indexed += items.size();
+        }
+        assertThat(indexed).isEqualTo(created.size());
+    }
+
+    @Test
+    void recover_LogAndSnapshots_ShouldRestoreLatestState(@TempDir Path directory) throws Exception {
+        ItemRepository repository = new ItemRepository(directory.toString(), 10, false);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            ids.add(repository.create("name" + i, "owner" + i + "@domain.com").id());
+        }
+        for (int i = 0; i < 25; i += 2) {
+            repository.update(ids.get(i), "updated" + i, "updated@domain.com");
+        }
+
+        repository.awaitSnapshot();
+
+        // Recover from the latest snapshot and the logs after it, without a clean shutdown
+        ItemRepository recovered = new ItemRepository(directory.toString(), 10, false);
+        assertThat(recovered.size()).isEqualTo(25);
+        assertThat(recovered.findByEmail("updated@domain.com")).hasSize(13);
+        assertThat(recovered.findById(ids.get(1))).hasValueSatisfying(item -> assertThat(item.name()).isEqualTo("name1"));
+
+        // A clean shutdown leaves a single snapshot behind
+        recovered.destroy();
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.map(file -> file.getFileName().toString()).filter(name -> name.startsWith("snapshot-")))
+                    .hasSize(1);
+        }
+        ItemRepository restarted = new ItemRepository(directory.toString(), 10, false);
+        assertThat(restarted.findAll()).containsExactlyInAnyOrderElementsOf(recovered.findAll());
+    }
+
+    @Test
+    void recover_ConcurrentWritesWithFsync_ShouldRestoreEveryWrite(@TempDir Path directory) throws Exception {
+        // A small snapshot interval rotates the log while appends wait for their sync
+        ItemRepository repository = new ItemRepository(directory.toString(), 50, true);
+        List<Future<List<UUID>>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread;
+                futures.add(executor.submit(() -> {
+                    List<UUID> ids = new ArrayList<>();
+                    for (int i = 0; i < 100; i++) {
+                        ids.add(repository.create("name", "owner" + offset + "@domain.com").id());
+                    }
+                    return ids;
+                }));
+            }
+        }
+        repository.awaitSnapshot();
+
+        ItemRepository recovered = new ItemRepository(directory.toString(), 50, true);
+        for (Future<List<UUID>> future : futures) {
+            assertThat(future.get()).allMatch(id -> recovered.findById(id).isPresent());
+        }
+        assertThat(recovered.size()).isEqualTo(800);
+    }
+
+    @Test
+    void recover_LogEndingInCutOffMultiByteCharacter_ShouldSkipPartialLine(@TempDir Path directory) throws Exception {
+        ItemRepository repository = new ItemRepository(directory.toString(), 100_000, false);
+        Item created = repository.create("Jürgen", "juergen@domain.com");
+
+        // A crash within the append of "Jörg" leaves the first byte of the two byte "ö" behind
+        Path log;
+        try (Stream<Path> files = Files.list(directory)) {
+            log = files.filter(file -> file.getFileName().toString().startsWith("items-"))
+                    .max(Comparator.comparing(Path::toString))
+                    .orElseThrow();
+        }
+        byte[] partial = ("{\"id\":\"" + UUID.randomUUID() + "\",\"name\":\"Jörg")
+                .getBytes(StandardCharsets.UTF_8);
+        Files.write(log, Arrays.copyOf(partial, partial.length - 3), StandardOpenOption.APPEND);
+
+        ItemRepository recovered = new ItemRepository(directory.toString(), 100_000, false);
+        assertThat(recovered.findAll()).containsExactly(created);
+    }
+
+    @Test
+    void recover_ValuesOverRequestLimits_ShouldRestoreThem(@TempDir Path directory) throws Exception {
+        // The log doesn't share the limits of the request bodies, e.g. the 1024 characters of a string
+        ItemRepository repository = new ItemRepository(directory.toString(), 100_000, false);
+        Item created = repository.create("n".repeat(5_000), "owner@domain.com");
+
+        ItemRepository recovered = new ItemRepository(directory.toString(), 100_000, false);
+        assertThat(recovered.findAll()).containsExactly(created);
+    }
+}
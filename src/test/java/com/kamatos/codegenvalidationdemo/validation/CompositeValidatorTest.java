@@ -0,0 +1,103 @@
+package com.kamatos.codegenvalidationdemo.validation;
+
+import com.kamatos.codegenvalidationdemo.api.model.CreateItemRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.NonNull;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.ObjectError;
+import org.springframework.validation.Validator;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompositeValidatorTest {
+    private ParallelValidationExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    void validate_WithAsyncValidators_ShouldMergeAllErrorsInRegistrationOrder() {
+        executor = new ParallelValidationExecutor(Duration.ofSeconds(5), AsyncTimeoutBehavior.FAIL);
+        CompositeValidator validator = CompositeValidator.of(CreateItemRequest.class, List.of(
+                new SlowValidator("slow", 200),
+                new SyncValidator("sync"),
+                new SlowValidator("fast", 0)), executor);
+
+        long start = System.nanoTime();
+        Errors errors = validate(validator);
+
+        assertThat(errors.getAllErrors()).extracting(ObjectError::getCode).containsExactly("sync", "slow", "fast");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void validate_WithFailOnTimeout_ShouldReportTimeoutError() {
+        executor = new ParallelValidationExecutor(Duration.ofMillis(50), AsyncTimeoutBehavior.FAIL);
+        CompositeValidator validator = CompositeValidator.of(CreateItemRequest.class, List.of(
+                new SlowValidator("fast", 0),
+                new SlowValidator("slow", 5_000)), executor);
+
+        Errors errors = validate(validator);
+
+        assertThat(errors.getAllErrors()).extracting(ObjectError::getCode)
+                .containsExactly("fast", ParallelValidationExecutor.TIMEOUT_CODE);
+    }
+
+    @Test
+    void validate_WithSkipOnTimeout_ShouldKeepCompletedErrorsOnly() {
+        executor = new ParallelValidationExecutor(Duration.ofMillis(50), AsyncTimeoutBehavior.SKIP);
+        CompositeValidator validator = CompositeValidator.of(CreateItemRequest.class, List.of(
+                new SlowValidator("slow", 5_000),
+                new SlowValidator("fast", 0)), executor);
+
+        Errors errors = validate(validator);
+
+        assertThat(errors.getAllErrors()).extracting(ObjectError::getCode).containsExactly("fast");
+    }
+
+    private static Errors validate(CompositeValidator validator) {
+        CreateItemRequest target = new CreateItemRequest();
+        Errors errors = new BeanPropertyBindingResult(target, "createItemRequest");
+        validator.validate(target, errors);
+        return errors;
+    }
+
+    private record SyncValidator(String code) implements Validator {
+
+        @Override
+        public boolean supports(@NonNull Class<?> clazz) {
+            return true;
+        }
+
+        @Override
+        public void validate(@NonNull Object target, @NonNull Errors errors) {
+            errors.reject(code);
+        }
+    }
+
+    private record SlowValidator(String code, long delayMillis) implements AsyncValidator {
+
+        @Override
+        public boolean supports(@NonNull Class<?> clazz) {
+            return true;
+        }
+
+        @Override
+        public void validate(@NonNull Object target, @NonNull Errors errors) {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            errors.reject(code);
+        }
+    }
+}
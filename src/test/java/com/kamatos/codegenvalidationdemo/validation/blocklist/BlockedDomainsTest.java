@@ -0,0 +1,86 @@
+package com.kamatos.codegenvalidationdemo.validation.blocklist;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlockedDomainsTest {
+
+    @Test
+    void isBlocked_ExactAndWildcardEntries_ShouldMatchDomainAndSubdomains() {
+        BlockedDomains domains = BlockedDomains.of(List.of("test.com", "*.mailinator.com", "spam.org", "*.spam.org"));
+
+        assertThat(isBlocked(domains, "test.com")).isTrue();
+        assertThat(isBlocked(domains, "TeSt.CoM")).isTrue();
+        assertThat(isBlocked(domains, "sub.test.com")).isFalse();
+        assertThat(isBlocked(domains, "atest.com")).isFalse();
+        assertThat(isBlocked(domains, "test.com.")).isFalse();
+
+        assertThat(isBlocked(domains, "mailinator.com")).isFalse();
+        assertThat(isBlocked(domains, "x.mailinator.com")).isTrue();
+        assertThat(isBlocked(domains, "a.b.MAILINATOR.com")).isTrue();
+        assertThat(isBlocked(domains, "xmailinator.com")).isFalse();
+
+        assertThat(isBlocked(domains, "spam.org")).isTrue();
+        assertThat(isBlocked(domains, "a.spam.org")).isTrue();
+
+        assertThat(isBlocked(domains, "com")).isFalse();
+        assertThat(isBlocked(domains, "")).isFalse();
+    }
+
+    @Test
+    void isBlocked_ShouldOnlyLookAtGivenRange() {
+        String email = "john.doe@test.com";
+
+        assertThat(BlockedDomains.DEFAULT.isBlocked(email, email.indexOf('@') + 1, email.length())).isTrue();
+        assertThat(BlockedDomains.DEFAULT.isBlocked(email, email.indexOf('@'), email.length())).isFalse();
+    }
+
+    @Test
+    void load_LargeFile_ShouldFindEveryEntry(@TempDir Path dir) throws IOException {
+        List<String> lines = new ArrayList<>(List.of("# disposable domains", "", "  padded.example.net\r"));
+        for (int i = 0; i < 100_000; i++) {
+            lines.add("domain" + i + ".example");
+        }
+        Path file = Files.write(dir.resolve("blocked-domains.txt"), lines);
+
+        BlockedDomains domains = BlockedDomains.load(file);
+
+        assertThat(domains.size()).isEqualTo(100_001);
+        assertThat(isBlocked(domains, "padded.example.net")).isTrue();
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(isBlocked(domains, "domain" + i + ".example")).isTrue();
+            assertThat(isBlocked(domains, "other" + i + ".example")).isFalse();
+        }
+    }
+
+    @Test
+    void reloadIfModified_ChangedFile_ShouldSwapDomains(@TempDir Path dir) throws IOException {
+        Path file = Files.write(dir.resolve("blocked-domains.txt"), List.of("first.com"));
+        BlockedDomainsProvider provider = new BlockedDomainsProvider(file.toString());
+        BlockedDomains initial = provider.current();
+
+        provider.reloadIfModified();
+        assertThat(provider.current()).isSameAs(initial);
+
+        Files.write(file, List.of("second.com"));
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+        provider.reloadIfModified();
+
+        assertThat(isBlocked(provider.current(), "first.com")).isFalse();
+        assertThat(isBlocked(provider.current(), "second.com")).isTrue();
+    }
+
+    private static boolean isBlocked(BlockedDomains domains, String domain) {
+        return domains.isBlocked(domain, 0, domain.length());
+    }
+}
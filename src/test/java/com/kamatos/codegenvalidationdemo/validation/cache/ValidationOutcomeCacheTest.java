@@ -0,0 +1,64 @@
+package com.kamatos.codegenvalidationdemo.validation.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidationOutcomeCacheTest {
+    private final AtomicInteger validations = new AtomicInteger();
+
+    @Test
+    void get_RepeatedValue_ShouldValidateOnce() {
+        ValidationOutcomeCache cache = new ValidationOutcomeCache(true, 100, Duration.ofMinutes(1));
+
+        assertThat(cache.get("email", 1, "john.doe@example.com", this::validate)).isEqualTo(20);
+        assertThat(cache.get("email", 1, "john.doe@example.com", this::validate)).isEqualTo(20);
+
+        assertThat(validations).hasValue(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void get_NewRulesVersion_ShouldRevalidateAndDropOlderOutcomes() {
+        ValidationOutcomeCache cache = new ValidationOutcomeCache(true, 100, Duration.ofMinutes(1));
+        cache.get("email", 1, "john.doe@example.com", this::validate);
+        cache.get("other", 1, "john.doe@example.com", this::validate);
+
+        cache.get("email", 2, "john.doe@example.com", this::validate);
+
+        assertThat(validations).hasValue(3);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void get_Disabled_ShouldAlwaysValidate() {
+        ValidationOutcomeCache cache = ValidationOutcomeCache.disabled();
+
+        cache.get("email", 1, "john.doe@example.com", this::validate);
+        cache.get("email", 1, "john.doe@example.com", this::validate);
+
+        assertThat(validations).hasValue(2);
+        assertThat(cache.stats().requestCount()).isZero();
+    }
+
+    @Test
+    void get_LongValue_ShouldNotBeCached() {
+        ValidationOutcomeCache cache = new ValidationOutcomeCache(true, 100, Duration.ofMinutes(1));
+        String value = "a".repeat(ValidationOutcomeCache.MAX_VALUE_LENGTH + 1);
+
+        cache.get("email", 1, value, this::validate);
+        cache.get("email", 1, value, this::validate);
+
+        assertThat(validations).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    private Integer validate(String value) {
+        validations.incrementAndGet();
+        return value.length();
+    }
+}
@@ -0,0 +1,89 @@
+package com.kamatos.codegenvalidationdemo.validation.constraint;
+
+import com.kamatos.codegenvalidationdemo.validation.blocklist.BlockedDomains;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Differential test of the {@link EmailRules} scanner against the regex based rules it replaced.
+ */
+class EmailRulesTest {
+    private static final Pattern NAME_LASTNAME_PATTERN =
+            Pattern.compile("^[A-Za-z]+\\.[A-Za-z]+@([A-Za-z0-9-]+\\.)+[A-Za-z]{2,}$");
+
+    private static final char[] ALPHABET = {'a', 'Z', 't', 'e', 's', 'c', 'o', 'm', '.', '.', '@', '-', '1', ' ', '\n', 'é'};
+
+    @Test
+    void check_KnownInputs_ShouldMatchRegexRules() {
+        List<String> inputs = List.of(
+                "my.email@domain.com", "john.doe@sub.example.org", "john.doe@test.com", "john.doe@TEST.com",
+                "dummy@test.com", "my-email@domain.com", "a.b@c.de", "a.b@c.d", "a.b@c1.d2", "a.b@-.xx",
+                "a.b@a..xx", "a.b@.xx", "a.b@xx", "a.b.c@domain.com", ".b@domain.com", "a.@domain.com",
+                "a.b@domain.com.", "a.b@domain.com\n", "a.b@x@test.com", "@test.com", "test.com", "",
+                "a.b@domain.c0m", "A.B@DOMAIN.COM", "a.b@test.com.", "a.b@test.comx");
+
+        inputs.forEach(EmailRulesTest::assertSameAsRegexRules);
+    }
+
+    @Test
+    void checkDomain_ShouldLookAtTheDomainAfterTheLastAtOnly() {
+        assertThat(EmailRules.checkDomain("x".repeat(1000) + "@test.com", BlockedDomains.DEFAULT))
+                .isEqualTo(EmailRules.DOMAIN_BLOCKED);
+        assertThat(EmailRules.checkDomain("a@test.com@domain.com", BlockedDomains.DEFAULT)).isEqualTo(EmailRules.VALID);
+        assertThat(EmailRules.checkDomain("test.com", BlockedDomains.DEFAULT)).isEqualTo(EmailRules.VALID);
+    }
+
+    @Test
+    void check_RandomInputs_ShouldMatchRegexRules() {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < 200_000; i++) {
+            sb.setLength(0);
+            if (random.nextBoolean()) {
+                sb.append("ab.cd@");
+            }
+            int length = random.nextInt(16);
+            for (int j = 0; j < length; j++) {
+                sb.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+            }
+            if (random.nextInt(4) == 0) {
+                sb.append(random.nextBoolean() ? "@test.com" : ".com");
+            }
+            assertSameAsRegexRules(sb.toString());
+        }
+    }
+
+    @Test
+    void check_AdversarialInput_ShouldStayLinear() {
+        String longDomain = "a.b@" + "a-1.".repeat(500_000) + "x";
+        String longLocal = "a".repeat(2_000_000) + "@test.com";
+        String manyAts = "@".repeat(2_000_000);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            assertThat(EmailRules.check(longDomain)).isEqualTo(EmailRules.FORMAT_VIOLATION);
+            assertThat(EmailRules.check(longLocal)).isEqualTo(EmailRules.FORMAT_VIOLATION | EmailRules.DOMAIN_BLOCKED);
+            assertThat(EmailRules.check(manyAts)).isEqualTo(EmailRules.FORMAT_VIOLATION);
+        });
+    }
+
+    private static void assertSameAsRegexRules(String email) {
+        int expected = EmailRules.VALID;
+        if (!NAME_LASTNAME_PATTERN.matcher(email).matches()) {
+            expected |= EmailRules.FORMAT_VIOLATION;
+        }
+        int at = email.lastIndexOf('@');
+        if ("test.com".equalsIgnoreCase(at >= 0 ? email.substring(at + 1) : "")) {
+            expected |= EmailRules.DOMAIN_BLOCKED;
+        }
+
+        assertThat(EmailRules.check(email)).as("check(\"%s\")", email).isEqualTo(expected);
+    }
+}
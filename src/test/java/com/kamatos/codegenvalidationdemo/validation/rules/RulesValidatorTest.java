@@ -0,0 +1,122 @@
+package com.kamatos.codegenvalidationdemo.validation.rules;
+
+import com.kamatos.codegenvalidationdemo.api.model.CreateItemRequest;
+import com.kamatos.codegenvalidationdemo.api.model.UpdateItemRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RulesValidatorTest {
+    private static final String RULES = """
+            {
+              "CreateItemRequest": [
+                {"field": "name", "type": "required", "code": "required"},
+                {"field": "name", "type": "notEquals", "value": "test", "ignoreCase": true, "code": "nonTest"},
+                {"field": "name", "type": "notIn", "values": ["admin", "root"], "ignoreCase": true, "code": "reserved"},
+                {"field": "name", "type": "length", "min": 2, "max": 10, "code": "length"},
+                {"field": "name", "type": "pattern", "pattern": "[A-Za-z0-9 ]*", "code": "pattern"},
+                {"field": "email", "type": "emailFormat", "code": "format.name_lastname_required"},
+                {"field": "email", "type": "domainNotIn", "values": ["test.com", "*.spam.org"], "code": "domain.blocked"},
+                {"field": "email", "type": "notEqualsField", "otherField": "name", "ignoreCase": true, "code": "sameAsName"},
+                {"field": "email", "type": "domainNotIn", "values": ["example.com"], "code": "partner.required",
+                 "when": {"field": "name", "equals": "partner", "ignoreCase": true}}
+              ],
+              "UpdateItemRequest": [
+                {"field": "email", "type": "required", "code": "required", "when": {"field": "name", "present": true}}
+              ]
+            }
+            """;
+
+    @Test
+    void validate_CompiledRules_ShouldRejectEveryViolatedRule() throws IOException {
+        RulesValidator validator = validator(RULES);
+
+        assertThat(codes(validator, new CreateItemRequest().name("John").email("john.doe@example.com"))).isEmpty();
+        assertThat(codes(validator, new CreateItemRequest().email("john.doe@example.com")))
+                .containsExactly("required.name");
+        assertThat(codes(validator, new CreateItemRequest().name("TEST").email("invalid@x.spam.org")))
+                .containsExactly("nonTest.name", "format.name_lastname_required.email", "domain.blocked.email");
+        assertThat(codes(validator, new CreateItemRequest().name("Root!").email("a.b@c.de")))
+                .containsExactly("pattern.name");
+        assertThat(codes(validator, new CreateItemRequest().name("A").email("a.b@test.com")))
+                .containsExactly("length.name", "domain.blocked.email");
+        assertThat(codes(validator, new CreateItemRequest().name("admin").email("ADMIN")))
+                .containsExactly("reserved.name", "format.name_lastname_required.email", "sameAsName.email");
+        assertThat(codes(validator, new CreateItemRequest().name("Partner").email("john.doe@example.com")))
+                .containsExactly("partner.required.email");
+
+        assertThat(codes(validator, new UpdateItemRequest().name("name"))).containsExactly("required.email");
+        assertThat(codes(validator, new UpdateItemRequest())).isEmpty();
+    }
+
+    @Test
+    void compile_InvalidDefinitions_ShouldFail() {
+        assertThatThrownBy(() -> compile("{\"Unknown\": []}")).hasMessageContaining("Unknown model");
+        assertThatThrownBy(() -> compile("{\"CreateItemRequest\": [{\"field\": \"age\", \"type\": \"required\", \"code\": \"c\"}]}"))
+                .hasMessageContaining("Unknown field age");
+        assertThatThrownBy(() -> compile("{\"CreateItemRequest\": [{\"field\": \"name\", \"type\": \"between\", \"code\": \"c\"}]}"))
+                .hasMessageContaining("Unknown rule type between");
+        assertThatThrownBy(() -> compile("{\"CreateItemRequest\": [{\"field\": \"name\", \"type\": \"notEquals\", \"code\": \"c\"}]}"))
+                .hasMessageContaining("Missing value");
+        assertThatThrownBy(() -> compile("{\"CreateItemRequest\": [{\"field\": \"name\", \"type\": \"notEquals\", \"value\": \"a\", \"ignorecase\": true, \"code\": \"c\"}]}"))
+                .rootCause().hasMessageContaining("Unrecognized field \"ignorecase\"");
+    }
+
+    @Test
+    void reloadIfModified_ChangedFile_ShouldSwapRules_InvalidFile_ShouldKeepThem(@TempDir Path dir) throws IOException {
+        Path file = Files.writeString(dir.resolve("rules.json"),
+                "{\"CreateItemRequest\": [{\"field\": \"name\", \"type\": \"notEquals\", \"value\": \"first\", \"code\": \"c\"}]}");
+        ValidationRulesProvider provider = new ValidationRulesProvider(file.toString());
+        RulesValidator validator = new RulesValidator(provider);
+        assertThat(codes(validator, new CreateItemRequest().name("first"))).containsExactly("c.name");
+
+        Files.writeString(file,
+                "{\"CreateItemRequest\": [{\"field\": \"name\", \"type\": \"notEquals\", \"value\": \"second\", \"code\": \"c\"}]}");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+        provider.reloadIfModified();
+        assertThat(codes(validator, new CreateItemRequest().name("first"))).isEmpty();
+        assertThat(codes(validator, new CreateItemRequest().name("second"))).containsExactly("c.name");
+
+        ValidationRules loaded = provider.current();
+        Files.writeString(file, "{\"CreateItemRequest\": [{\"field\": \"name\"}]}");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(120)));
+        provider.reloadIfModified();
+        assertThat(provider.current()).isSameAs(loaded);
+    }
+
+    private static RulesValidator validator(String rules) throws IOException {
+        Path file = Files.createTempFile("rules", ".json");
+        try {
+            Files.writeString(file, rules);
+            return new RulesValidator(new ValidationRulesProvider(file.toString()));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static void compile(String rules) throws IOException {
+        validator(rules);
+    }
+
+    private static List<String> codes(RulesValidator validator, Object target) {
+        assertThat(validator.supports(target.getClass())).isTrue();
+        Errors errors = new BeanPropertyBindingResult(target, "request");
+        validator.validate(target, errors);
+        return errors.getFieldErrors().stream()
+                .map(FieldError::getCodes)
+                .map(codes -> codes[1])
+                .toList();
+    }
+}